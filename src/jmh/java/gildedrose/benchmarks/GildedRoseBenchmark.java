@@ -0,0 +1,98 @@
+package gildedrose.benchmarks;
+
+import gildedrose.GildedRose;
+import gildedrose.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction (replacing plain items with their specialized types) and the daily quality update
+ * of whole inventories. Construction replaces the items of the array it is given, so every
+ * construction gets its own copy of the inventory. The copies are made {@value #COPIES_PER_INVOCATION}
+ * at a time, which keeps the per-invocation setup from dominating construction of small inventories.
+ * <p>
+ * updateQuality keeps updating the same shop for a whole iteration. After about 50 updates nearly all
+ * items sit at their quality bounds, so it measures the daily update of an aged inventory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class GildedRoseBenchmark {
+
+    static final int COPIES_PER_INVOCATION = 16;
+
+    @State(Scope.Benchmark)
+    public static class Inventory {
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        private int inventorySize;
+
+        @Param
+        private InventoryOrder order;
+
+        private Item[] items;
+
+        @Setup(Level.Iteration)
+        public void createInventory() {
+            items = order.createInventory(inventorySize);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class InventoryCopies {
+
+        private final Item[][] copies = new Item[COPIES_PER_INVOCATION][];
+
+        @Setup(Level.Invocation)
+        public void copyInventory(Inventory inventory) {
+            for (int copy = 0; copy < copies.length; copy++) {
+                copies[copy] = inventory.items.clone();
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Shop {
+
+        private GildedRose gildedRose;
+
+        @Setup(Level.Iteration)
+        public void openShop(Inventory inventory) {
+            gildedRose = new GildedRose(inventory.items.clone());
+        }
+    }
+
+    /**
+     * Drops each copy once it is constructed, so that only one specialized inventory is live at a time.
+     */
+    @Benchmark
+    @OperationsPerInvocation(COPIES_PER_INVOCATION)
+    public void construct(InventoryCopies inventory, Blackhole blackhole) {
+        for (int copy = 0; copy < inventory.copies.length; copy++) {
+            blackhole.consume(new GildedRose(inventory.copies[copy]));
+            inventory.copies[copy] = null;
+        }
+    }
+
+    @Benchmark
+    public GildedRose updateQuality(Shop shop) {
+        shop.gildedRose.updateQuality();
+        return shop.gildedRose;
+    }
+}
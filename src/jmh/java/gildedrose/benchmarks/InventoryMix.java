@@ -0,0 +1,55 @@
+package gildedrose.benchmarks;
+
+import gildedrose.Item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Item names and their share of a realistic inventory, in the order a sorted inventory lists them.
+ */
+enum InventoryMix {
+
+    PLAIN("+5 Dexterity Vest", 60),
+    AGED_BRIE("Aged Brie", 10),
+    BACKSTAGE_PASS("Backstage passes to a TAFKAL80ETC concert", 10),
+    SULFURAS("Sulfuras, Hand of Ragnaros", 5),
+    CONJURED("Conjured", 15);
+
+    private static final int TOTAL_SHARE = 100;
+    private static final int MAX_SELL_IN = 30;
+    private static final int MAX_QUALITY = 50;
+    private static final long SEED = 42;
+
+    private final String itemName;
+    private final int percentage;
+
+    InventoryMix(String itemName, int percentage) {
+        this.itemName = itemName;
+        this.percentage = percentage;
+    }
+
+    static Item[] sortedInventory(int size) {
+        Random random = new Random(SEED);
+        List<Item> items = new ArrayList<>(size);
+        for (InventoryMix type : values()) {
+            type.addItems(items, size * type.percentage / TOTAL_SHARE, random);
+        }
+        PLAIN.addItems(items, size - items.size(), random);
+        return items.toArray(new Item[0]);
+    }
+
+    static Item[] shuffledInventory(int size) {
+        List<Item> items = new ArrayList<>(List.of(sortedInventory(size)));
+        Collections.shuffle(items, new Random(SEED));
+        return items.toArray(new Item[0]);
+    }
+
+    private void addItems(List<Item> items, int count, Random random) {
+        for (int index = 0; index < count; index++) {
+            items.add(new Item(itemName, random.nextInt(MAX_SELL_IN), random.nextInt(MAX_QUALITY)));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package gildedrose.benchmarks;
+
+import gildedrose.Item;
+
+/**
+ * Sorted inventories keep each call site monomorphic for long runs, shuffled ones make
+ * {@code Item.updateQuality} megamorphic.
+ */
+public enum InventoryOrder {
+
+    SORTED {
+        @Override
+        Item[] createInventory(int size) {
+            return InventoryMix.sortedInventory(size);
+        }
+    },
+    SHUFFLED {
+        @Override
+        Item[] createInventory(int size) {
+            return InventoryMix.shuffledInventory(size);
+        }
+    };
+
+    abstract Item[] createInventory(int size);
+}
@@ -0,0 +1,69 @@
+package movierental.benchmarks;
+
+import movierental.ChargeTable;
+import movierental.Movie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Movie.getCharge through the precomputed charge tables against the pricing formulas alone.
+ * The tables are sized once per JVM, so each variant runs in its own fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OperationsPerInvocation(ChargeTableBenchmark.MOVIE_COUNT * ChargeTableBenchmark.MAX_DAYS_RENTED)
+public class ChargeTableBenchmark {
+
+    static final int MOVIE_COUNT = 64;
+    static final int MAX_DAYS_RENTED = 30;
+
+    @Param
+    private MovieMix movieMix;
+
+    private Movie[] movies;
+
+    @Setup
+    public void createMovies() {
+        movies = new Movie[MOVIE_COUNT];
+        for (int index = 0; index < MOVIE_COUNT; index++) {
+            movies[index] = movieMix.movieFor(index);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + ChargeTable.MAX_DAYS_PROPERTY + "=30")
+    public double precomputedTable() {
+        return priceAllDurations();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + ChargeTable.MAX_DAYS_PROPERTY + "=-1")
+    public double formulaOnly() {
+        return priceAllDurations();
+    }
+
+    private double priceAllDurations() {
+        double total = 0;
+        for (Movie movie : movies) {
+            for (int daysRented = 1; daysRented <= MAX_DAYS_RENTED; daysRented++) {
+                total += movie.getCharge(daysRented);
+            }
+        }
+        return total;
+    }
+}
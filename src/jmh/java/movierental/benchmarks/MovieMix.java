@@ -0,0 +1,60 @@
+package movierental.benchmarks;
+
+import movierental.Movie;
+import movierental.MovieCatalog;
+import movierental.Rental;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+
+/**
+ * Movie type distributions of the benchmark rental lists. Durations cycle through 1..30 days,
+ * the range nearly all real rentals fall in. Titles come from a pool of {@value #TITLE_POOL_SIZE},
+ * and rentals of the same movie share one {@link Movie}, as rentals in a store's catalog do.
+ */
+public enum MovieMix {
+
+    REGULAR {
+        @Override
+        Movie movieFor(int index) {
+            return new RegularMovie(titleFor(index));
+        }
+    },
+    NEW_RELEASE {
+        @Override
+        Movie movieFor(int index) {
+            return new NewReleaseMovie(titleFor(index));
+        }
+    },
+    CHILDRENS {
+        @Override
+        Movie movieFor(int index) {
+            return new ChildrensMovie(titleFor(index));
+        }
+    },
+    MIXED {
+        @Override
+        Movie movieFor(int index) {
+            return PURE_MIXES[index % PURE_MIXES.length].movieFor(index);
+        }
+    };
+
+    private static final int MAX_DAYS_RENTED = 30;
+    private static final int TITLE_POOL_SIZE = 500;
+    private static final MovieMix[] PURE_MIXES = {REGULAR, NEW_RELEASE, CHILDRENS};
+
+    abstract Movie movieFor(int index);
+
+    Rental[] rentals(int count) {
+        MovieCatalog catalog = new MovieCatalog();
+        Rental[] rentals = new Rental[count];
+        for (int index = 0; index < count; index++) {
+            rentals[index] = new Rental(catalog.intern(movieFor(index)), index % MAX_DAYS_RENTED + 1);
+        }
+        return rentals;
+    }
+
+    private static String titleFor(int index) {
+        return "Movie " + index % TITLE_POOL_SIZE;
+    }
+}
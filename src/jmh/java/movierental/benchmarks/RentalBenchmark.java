@@ -0,0 +1,80 @@
+package movierental.benchmarks;
+
+import movierental.Money;
+import movierental.Rental;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pricing and points of single rentals, measured over a fixed list so that the call sites see the
+ * type profile of the chosen mix.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(RentalBenchmark.RENTAL_COUNT)
+public class RentalBenchmark {
+
+    static final int RENTAL_COUNT = 1024;
+
+    @Param
+    private MovieMix movieMix;
+
+    private Rental[] rentals;
+
+    @Setup
+    public void createRentals() {
+        rentals = movieMix.rentals(RENTAL_COUNT);
+    }
+
+    @Benchmark
+    public long calculateCharge() {
+        long totalMinorUnits = 0;
+        for (Rental rental : rentals) {
+            totalMinorUnits += rental.calculateCharge().getMinorUnits();
+        }
+        return totalMinorUnits;
+    }
+
+    @Benchmark
+    public double getCharge() {
+        double total = 0;
+        for (Rental rental : rentals) {
+            total += rental.getCharge();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int getFrequentRenterPoints() {
+        int total = 0;
+        for (Rental rental : rentals) {
+            total += rental.getFrequentRenterPoints();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money sumCharges() {
+        Money total = Money.ZERO;
+        for (Rental rental : rentals) {
+            total = total.plus(rental.calculateCharge());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,31 @@
+package movierental.benchmarks;
+
+import movierental.ColumnarRentalHistory;
+import movierental.MovieCatalog;
+import movierental.OffHeapRentalHistory;
+import movierental.RentalHistory;
+import movierental.RentalList;
+
+public enum RentalStorage {
+
+    LIST {
+        @Override
+        RentalHistory newHistory() {
+            return new RentalList();
+        }
+    },
+    COLUMNAR {
+        @Override
+        RentalHistory newHistory() {
+            return new ColumnarRentalHistory(new MovieCatalog());
+        }
+    },
+    OFF_HEAP {
+        @Override
+        RentalHistory newHistory() {
+            return new OffHeapRentalHistory(new MovieCatalog());
+        }
+    };
+
+    abstract RentalHistory newHistory();
+}
@@ -0,0 +1,74 @@
+package movierental.benchmarks;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.RentalStatementFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StatementBenchmark {
+
+    @Param({"1", "100", "10000", "1000000"})
+    private int rentalCount;
+
+    @Param
+    private MovieMix movieMix;
+
+    @Param
+    private StatementFormat format;
+
+    @Param
+    private RentalStorage storage;
+
+    private Customer customer;
+    private RentalStatementFormatter formatter;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void createCustomer() {
+        customer = new Customer("Benchmark Customer", storage.newHistory());
+        for (Rental rental : movieMix.rentals(rentalCount)) {
+            customer.addRental(rental);
+        }
+        formatter = format.newFormatter();
+        buffer = ByteBuffer.allocateDirect(customer.generateStatement(formatter).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public String generateStatement() {
+        return customer.generateStatement(formatter);
+    }
+
+    @Benchmark
+    public StringBuilder streamStatement() {
+        StringBuilder output = new StringBuilder();
+        customer.generateStatement(formatter, output);
+        return output;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeStatement() {
+        buffer.clear();
+        customer.generateStatement(formatter, buffer);
+        return buffer;
+    }
+}
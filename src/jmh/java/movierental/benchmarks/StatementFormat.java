@@ -0,0 +1,23 @@
+package movierental.benchmarks;
+
+import movierental.RentalStatementFormatter;
+import movierental.formatters.HtmlStatementFormatter;
+import movierental.formatters.TextStatementFormatter;
+
+import java.util.function.Supplier;
+
+public enum StatementFormat {
+
+    TEXT(TextStatementFormatter::new),
+    HTML(HtmlStatementFormatter::new);
+
+    private final Supplier<RentalStatementFormatter> formatterFactory;
+
+    StatementFormat(Supplier<RentalStatementFormatter> formatterFactory) {
+        this.formatterFactory = formatterFactory;
+    }
+
+    RentalStatementFormatter newFormatter() {
+        return formatterFactory.get();
+    }
+}
@@ -0,0 +1,159 @@
+package movierental.benchmarks;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.registry.CustomerRegistry;
+import movierental.server.StatementServer;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives an embedded {@link StatementServer} over many concurrent keep-alive connections and
+ * reports latency percentiles. Every connection sends its next request as soon as the previous
+ * response has arrived.
+ * <pre>
+ * java -Dsun.net.httpserver.nodelay=true -cp target/benchmarks.jar movierental.benchmarks.StatementLoadGenerator [connections] [seconds] [text|html]
+ * </pre>
+ */
+public class StatementLoadGenerator {
+
+    private static final int DEFAULT_CONNECTIONS = 2000;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final String DEFAULT_FORMAT = "text";
+    private static final int CUSTOMER_COUNT = 1000;
+    private static final int RENTALS_PER_CUSTOMER = 20;
+    private static final int SERVER_THREADS = 256;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final URI[] statementUris;
+    private final LongAdder failures = new LongAdder();
+    private long deadlineNanos;
+
+    private StatementLoadGenerator(URI[] statementUris) {
+        this.statementUris = statementUris;
+    }
+
+    public static void main(String[] args) {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CONNECTIONS;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS);
+        String format = args.length > 2 ? args[2] : DEFAULT_FORMAT;
+        ExecutorService serverThreads = Executors.newFixedThreadPool(SERVER_THREADS);
+        StatementServer server = new StatementServer(new InetSocketAddress("localhost", 0), customers(), serverThreads);
+        server.start();
+        try {
+            StatementLoadGenerator generator = new StatementLoadGenerator(statementUris(server, format));
+            generator.report(generator.run(connections, duration), duration);
+        } finally {
+            server.stop();
+            serverThreads.shutdown();
+        }
+    }
+
+    private long[] run(int connections, Duration duration) {
+        deadlineNanos = System.nanoTime() + duration.toNanos();
+        List<CompletableFuture<long[]>> runs = new ArrayList<>(connections);
+        for (int connection = 0; connection < connections; connection++) {
+            runs.add(new Connection(connection).run());
+        }
+        return runs.stream().map(CompletableFuture::join).flatMapToLong(Arrays::stream).sorted().toArray();
+    }
+
+    private void report(long[] latencies, Duration duration) {
+        System.out.printf("%d requests, %d failures, %.0f requests/s%n",
+                latencies.length, failures.sum(), latencies.length / Math.max(duration.toNanos() / NANOS_PER_SECOND, Double.MIN_VALUE));
+        System.out.printf("latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    private static double percentile(long[] sortedLatencies, double fraction) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        return sortedLatencies[(int) (fraction * (sortedLatencies.length - 1))] / NANOS_PER_MILLI;
+    }
+
+    private static CustomerRegistry customers() {
+        CustomerRegistry registry = new CustomerRegistry();
+        Rental[] rentals = MovieMix.MIXED.rentals(RENTALS_PER_CUSTOMER);
+        for (int index = 0; index < CUSTOMER_COUNT; index++) {
+            Customer customer = registry.getOrCreate(customerName(index));
+            Arrays.stream(rentals).forEach(customer::addRental);
+        }
+        return registry;
+    }
+
+    private static URI[] statementUris(StatementServer server, String format) {
+        URI[] uris = new URI[CUSTOMER_COUNT];
+        for (int index = 0; index < CUSTOMER_COUNT; index++) {
+            uris[index] = URI.create("http://localhost:" + server.getAddress().getPort()
+                    + StatementServer.STATEMENTS_PATH + customerName(index) + "?format=" + format);
+        }
+        return uris;
+    }
+
+    private static String customerName(int index) {
+        return "Customer" + index;
+    }
+
+    /**
+     * One client connection's sequence of requests. Each request starts when the previous
+     * completes, so its latencies are recorded by one request at a time.
+     */
+    private class Connection {
+
+        private final int firstCustomer;
+        private final CompletableFuture<long[]> completion = new CompletableFuture<>();
+        private long[] latencies = new long[64];
+        private int count;
+
+        private Connection(int firstCustomer) {
+            this.firstCustomer = firstCustomer;
+        }
+
+        private CompletableFuture<long[]> run() {
+            sendNext();
+            return completion;
+        }
+
+        private void sendNext() {
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                completion.complete(Arrays.copyOf(latencies, count));
+                return;
+            }
+            long start = System.nanoTime();
+            URI uri = statementUris[(firstCustomer + count) % statementUris.length];
+            client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> record(start, response, failure));
+        }
+
+        private void record(long start, HttpResponse<Void> response, Throwable failure) {
+            if (failure != null || response.statusCode() != 200) {
+                failures.increment();
+            } else {
+                add(System.nanoTime() - start);
+            }
+            sendNext();
+        }
+
+        private void add(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package movierental;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Rental history stored as records of movie id and days rented instead of one {@link Rental} object
+ * per rental, with movies resolved through a shared {@link MovieCatalog}. Subclasses decide where the
+ * records live. Not thread-safe.
+ */
+public abstract class CatalogRentalHistory implements RentalHistory {
+
+    protected static final int INITIAL_CAPACITY = 16;
+
+    private final MovieCatalog catalog;
+    private int size;
+
+    protected CatalogRentalHistory(MovieCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @Override
+    public void add(Rental rental) {
+        add(catalog.idOf(rental.getMovie()), rental.getDaysRented());
+    }
+
+    /**
+     * Adds a rental of a movie already registered in this history's catalog.
+     */
+    public final void add(int movieId, int daysRented) {
+        ensureCapacity(size);
+        store(size, movieId, daysRented);
+        size++;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEachLine(Consumer<StatementLine> action) {
+        for (int index = 0; index < size; index++) {
+            action.accept(StatementLine.from(movieAt(index), daysRentedAt(index)));
+        }
+    }
+
+    @Override
+    public List<Rental> asRentals() {
+        return new RentalView();
+    }
+
+    final int size() {
+        return size;
+    }
+
+    final Movie movieAt(int index) {
+        return catalog.movieWithId(movieIdAt(index));
+    }
+
+    protected abstract int movieIdAt(int index);
+
+    protected abstract int daysRentedAt(int index);
+
+    protected abstract void store(int index, int movieId, int daysRented);
+
+    /**
+     * Makes room for one more record after the given number of stored records.
+     */
+    protected abstract void ensureCapacity(int storedCount);
+
+    private class RentalView extends AbstractList<Rental> {
+
+        @Override
+        public Rental get(int index) {
+            Objects.checkIndex(index, size);
+            return new Rental(movieAt(index), daysRentedAt(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package movierental;
+
+import java.util.function.IntFunction;
+
+/**
+ * Charges of one movie type precomputed for rentals of 0 up to a maximum number of days,
+ * so that pricing the common durations is a bounds check and an array load. Durations outside
+ * the table fall back to the pricing formula.
+ * <p>
+ * The default maximum can be changed with the {@value #MAX_DAYS_PROPERTY} system property;
+ * a negative value disables precomputation, and values above {@value #MAX_PRECOMPUTED_DAYS}
+ * are rejected.
+ */
+public final class ChargeTable {
+
+    public static final String MAX_DAYS_PROPERTY = "movierental.chargeTable.maxDays";
+
+    /** Upper bound on the precomputed days, keeping a misconfigured table from exhausting the heap. */
+    public static final int MAX_PRECOMPUTED_DAYS = 3650;
+
+    private static final int DEFAULT_MAX_DAYS = 30;
+    private static final Money[] NO_PRECOMPUTED_CHARGES = new Money[0];
+
+    private final IntFunction<Money> pricingFormula;
+    private final Money[] precomputedCharges;
+
+    private ChargeTable(IntFunction<Money> pricingFormula, Money[] precomputedCharges) {
+        this.pricingFormula = pricingFormula;
+        this.precomputedCharges = precomputedCharges;
+    }
+
+    public static ChargeTable precompute(IntFunction<Money> pricingFormula) {
+        int maxDays = Integer.getInteger(MAX_DAYS_PROPERTY, DEFAULT_MAX_DAYS);
+        if (maxDays > MAX_PRECOMPUTED_DAYS) {
+            throw new IllegalStateException(MAX_DAYS_PROPERTY + " is " + maxDays
+                    + " but must be at most " + MAX_PRECOMPUTED_DAYS);
+        }
+        return precompute(pricingFormula, maxDays);
+    }
+
+    public static ChargeTable precompute(IntFunction<Money> pricingFormula, int maxDays) {
+        if (maxDays > MAX_PRECOMPUTED_DAYS) {
+            throw new IllegalArgumentException("Cannot precompute " + maxDays
+                    + " days of charges, the maximum is " + MAX_PRECOMPUTED_DAYS);
+        }
+        Money[] charges = new Money[Math.max(maxDays + 1, 0)];
+        for (int daysRented = 0; daysRented < charges.length; daysRented++) {
+            charges[daysRented] = pricingFormula.apply(daysRented);
+        }
+        return new ChargeTable(pricingFormula, charges);
+    }
+
+    public static ChargeTable formulaOnly(IntFunction<Money> pricingFormula) {
+        return new ChargeTable(pricingFormula, NO_PRECOMPUTED_CHARGES);
+    }
+
+    public Money chargeFor(int daysRented) {
+        if (isPrecomputed(daysRented)) {
+            return precomputedCharges[daysRented];
+        }
+        return pricingFormula.apply(daysRented);
+    }
+
+    private boolean isPrecomputed(int daysRented) {
+        return daysRented >= 0 && daysRented < precomputedCharges.length;
+    }
+}
@@ -0,0 +1,41 @@
+package movierental;
+
+import java.util.Arrays;
+
+/**
+ * Rental history for heavy accounts, stored as parallel primitive columns of movie ids and days
+ * rented. Not thread-safe.
+ */
+public class ColumnarRentalHistory extends CatalogRentalHistory {
+
+    private int[] movieIds = new int[INITIAL_CAPACITY];
+    private int[] daysRented = new int[INITIAL_CAPACITY];
+
+    public ColumnarRentalHistory(MovieCatalog catalog) {
+        super(catalog);
+    }
+
+    @Override
+    protected int movieIdAt(int index) {
+        return movieIds[index];
+    }
+
+    @Override
+    protected int daysRentedAt(int index) {
+        return daysRented[index];
+    }
+
+    @Override
+    protected void store(int index, int movieId, int daysRented) {
+        movieIds[index] = movieId;
+        this.daysRented[index] = daysRented;
+    }
+
+    @Override
+    protected void ensureCapacity(int storedCount) {
+        if (storedCount == movieIds.length) {
+            movieIds = Arrays.copyOf(movieIds, storedCount * 2);
+            daysRented = Arrays.copyOf(daysRented, storedCount * 2);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package movierental;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Rental history that rentals can be added to while other threads render it. Rentals are stored in
+ * fixed-size chunks that are never moved or changed once filled, and a volatile size publishes each
+ * added rental. A snapshot is therefore just the current chunks and size: taking and reading it
+ * copies no rentals and takes no lock. Appends are serialized by a short lock held only by writers.
+ */
+public class ConcurrentRentalHistory implements RentalHistory {
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNK_COUNT = 4;
+
+    private volatile Rental[][] chunks = new Rental[INITIAL_CHUNK_COUNT][];
+    private volatile int size;
+
+    @Override
+    public synchronized void add(Rental rental) {
+        int index = size;
+        chunkFor(index)[index & CHUNK_MASK] = rental;
+        size = index + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEachLine(Consumer<StatementLine> action) {
+        snapshot().forEachLine(action);
+    }
+
+    @Override
+    public List<Rental> asRentals() {
+        return snapshot().asRentals();
+    }
+
+    /**
+     * Reads the size before the chunks, so that the chunks read hold every rental counted.
+     */
+    @Override
+    public RentalHistory snapshot() {
+        int currentSize = size;
+        return new Snapshot(chunks, currentSize);
+    }
+
+    private Rental[] chunkFor(int index) {
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        if (chunkIndex == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkIndex * 2);
+        }
+        if (chunks[chunkIndex] == null) {
+            chunks[chunkIndex] = new Rental[CHUNK_SIZE];
+        }
+        return chunks[chunkIndex];
+    }
+
+    private static class Snapshot implements RentalHistory {
+
+        private final Rental[][] chunks;
+        private final int size;
+
+        private Snapshot(Rental[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public void add(Rental rental) {
+            throw new UnsupportedOperationException("Rental history snapshots cannot be changed");
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public void forEachLine(Consumer<StatementLine> action) {
+            for (int index = 0; index < size; index++) {
+                action.accept(StatementLine.from(rentalAt(index)));
+            }
+        }
+
+        @Override
+        public List<Rental> asRentals() {
+            return new RentalView();
+        }
+
+        private Rental rentalAt(int index) {
+            return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+
+        private class RentalView extends AbstractList<Rental> {
+
+            @Override
+            public Rental get(int index) {
+                return rentalAt(Objects.checkIndex(index, size));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        }
+    }
+}
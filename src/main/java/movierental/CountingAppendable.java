@@ -0,0 +1,41 @@
+package movierental;
+
+import java.io.IOException;
+
+/**
+ * Passes characters on to another {@link Appendable} and counts them.
+ */
+class CountingAppendable implements Appendable {
+
+    private final Appendable output;
+    private long length;
+
+    CountingAppendable(Appendable output) {
+        this.output = output;
+    }
+
+    @Override
+    public Appendable append(CharSequence text) throws IOException {
+        output.append(text);
+        length += text.length();
+        return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence text, int start, int end) throws IOException {
+        output.append(text, start, end);
+        length += end - start;
+        return this;
+    }
+
+    @Override
+    public Appendable append(char character) throws IOException {
+        output.append(character);
+        length++;
+        return this;
+    }
+
+    long length() {
+        return length;
+    }
+}
@@ -1,31 +1,88 @@
 package movierental;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.ByteBuffer;
 import java.util.List;
 
+/**
+ * A customer and the rentals added to it. Adding rentals and rendering statements and summaries may
+ * happen on different threads when the rental history is thread-safe, such as a
+ * {@link ConcurrentRentalHistory}; statements then render a snapshot of the rentals.
+ */
 public class Customer {
 
     private final String name;
-    private final List<Rental> rentals = new ArrayList<>();
+    private final RentalHistory rentals;
+    private final StatementTotals totals = new StatementTotals();
+    private final RentalCounts rentalCounts = new RentalCounts();
+    private volatile long version;
 
     public Customer(String name) {
+        this(name, new RentalList());
+    }
+
+    public Customer(String name, RentalHistory rentals) {
         this.name = name;
+        this.rentals = rentals;
+        rentals.forEachLine(this::recordInSummary);
     }
 
-    public void addRental(Rental arg) {
+    public synchronized void addRental(Rental arg) {
         rentals.add(arg);
+        recordInSummary(StatementLine.from(arg));
+        version++;
     }
 
     public String getName() {
         return name;
     }
 
+    /**
+     * Changes whenever a rental is added, so that anything derived from the rentals can tell
+     * whether it is still current.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * An unmodifiable view of the rentals, in the order they were added.
+     */
+    public List<Rental> getRentals() {
+        return rentals.asRentals();
+    }
+
+    public synchronized int getRentalCount(Class<? extends Movie> movieType) {
+        return rentalCounts.countOf(movieType);
+    }
+
     public String generateStatement(RentalStatementFormatter formatter) {
-        return formatter.format(name, getUnmodifiableRentals());
+        return formatter.format(name, rentals.snapshot());
+    }
+
+    public void generateStatement(RentalStatementFormatter formatter, Appendable output) {
+        formatter.format(name, rentals.snapshot(), output);
+    }
+
+    public void generateStatement(RentalStatementFormatter formatter, ByteBuffer output) {
+        formatter.format(name, rentals.snapshot(), output);
+    }
+
+    public String generateSummary(RentalStatementFormatter formatter) {
+        StringBuilder summary = new StringBuilder();
+        generateSummary(formatter, summary);
+        return summary.toString();
+    }
+
+    public void generateSummary(RentalStatementFormatter formatter, Appendable output) {
+        formatter.formatSummary(name, currentTotals(), output);
+    }
+
+    private synchronized StatementTotals currentTotals() {
+        return totals.copy();
     }
 
-    private List<Rental> getUnmodifiableRentals() {
-        return Collections.unmodifiableList(rentals);
+    private void recordInSummary(StatementLine line) {
+        totals.add(line);
+        rentalCounts.add(line.getMovie());
     }
 }
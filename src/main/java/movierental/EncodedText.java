@@ -0,0 +1,36 @@
+package movierental;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text together with its UTF-8 encoding, encoded once so that writing it into a byte sink is a
+ * single bulk copy. Used for formatter literals and for movie titles.
+ */
+public final class EncodedText {
+
+    private final String text;
+    private final byte[] utf8;
+
+    private EncodedText(String text) {
+        this.text = text;
+        this.utf8 = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static EncodedText of(String text) {
+        return new EncodedText(text);
+    }
+
+    public int byteLength() {
+        return utf8.length;
+    }
+
+    public void writeTo(ByteBuffer output) {
+        output.put(utf8);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,53 @@
+package movierental;
+
+/**
+ * An exact amount of money held as a count of minor units (cents). Sums are exact and
+ * independent of evaluation order, unlike sums of {@code double} charges.
+ */
+public final class Money {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final double MINOR_UNITS_PER_MAJOR_UNIT = 100;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(int multiplier) {
+        return new Money(Math.multiplyExact(minorUnits, multiplier));
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public double toDouble() {
+        return minorUnits / MINOR_UNITS_PER_MAJOR_UNIT;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && ((Money) other).minorUnits == minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return Double.toString(toDouble());
+    }
+}
@@ -3,14 +3,73 @@ package movierental;
 public abstract class Movie {
 
     private final String title;
+    private final PriceCode priceCode;
+    private EncodedText encodedTitle;
+    private StyledTitle styledTitle;
 
-    public Movie(String title) {
+    protected Movie(String title, PriceCode priceCode) {
         this.title = title;
+        this.priceCode = priceCode;
     }
     
     public String getTitle() {
         return title;
     }
 
-    public abstract double getCharge(int daysRented);
+    /**
+     * The title with its UTF-8 encoding, computed on first use and kept for every later statement line.
+     * Racing threads may each compute it, but they compute equal immutable values.
+     */
+    public EncodedText getEncodedTitle() {
+        EncodedText encoded = encodedTitle;
+        if (encoded == null) {
+            encoded = EncodedText.of(title);
+            encodedTitle = encoded;
+        }
+        return encoded;
+    }
+
+    /**
+     * The title in the given style, cached like {@link #getEncodedTitle()}. Only the most recently
+     * used style is kept, which suits the one style each formatter brings.
+     */
+    public EncodedText getTitle(TitleStyle style) {
+        StyledTitle styled = styledTitle;
+        if (styled == null || styled.style != style) {
+            styled = new StyledTitle(style, EncodedText.of(style.style(title)));
+            styledTitle = styled;
+        }
+        return styled.text;
+    }
+
+    public PriceCode getPriceCode() {
+        return priceCode;
+    }
+
+    /**
+     * The charge as a double, always derived from {@link #calculateCharge(int)}; subclasses vary
+     * pricing through their {@link PriceCode}, not by overriding this.
+     */
+    public final double getCharge(int daysRented) {
+        return calculateCharge(daysRented).toDouble();
+    }
+
+    public final Money calculateCharge(int daysRented) {
+        return priceCode.chargeFor(daysRented);
+    }
+
+    public final int calculateFrequentRenterPoints(int daysRented) {
+        return priceCode.frequentRenterPointsFor(daysRented);
+    }
+
+    private static final class StyledTitle {
+
+        private final TitleStyle style;
+        private final EncodedText text;
+
+        private StyledTitle(TitleStyle style, EncodedText text) {
+            this.style = style;
+            this.text = text;
+        }
+    }
 }
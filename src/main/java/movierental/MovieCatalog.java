@@ -0,0 +1,86 @@
+package movierental;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Interns movies by type and title and assigns them dense integer ids, so that every rental of the
+ * same movie shares one {@link Movie} and one title String, and rentals can refer to movies by
+ * array index. Shared by all customers whose rentals are stored in columns.
+ * <p>
+ * Thread-safe. Registration takes a lock; resolving an id reads a volatile array that is
+ * republished after every registration, so an id issued by {@link #idOf} resolves on any thread
+ * without locking.
+ */
+public class MovieCatalog {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<MovieKey, Integer> idsByKey = new HashMap<>();
+    private volatile Movie[] moviesById = new Movie[INITIAL_CAPACITY];
+
+    public synchronized int idOf(Movie movie) {
+        requireTitle(movie);
+        return idsByKey.computeIfAbsent(new MovieKey(movie), key -> register(movie));
+    }
+
+    /**
+     * Returns the catalog's instance of a movie of the same type and title, registering the given
+     * movie if there is none yet.
+     */
+    public Movie intern(Movie movie) {
+        return movieWithId(idOf(movie));
+    }
+
+    public Movie movieWithId(int id) {
+        return moviesById[id];
+    }
+
+    public synchronized int size() {
+        return idsByKey.size();
+    }
+
+    private int register(Movie movie) {
+        int id = idsByKey.size();
+        Movie[] movies = moviesById;
+        if (id == movies.length) {
+            movies = Arrays.copyOf(movies, id * 2);
+        }
+        movies[id] = movie;
+        moviesById = movies;
+        return id;
+    }
+
+    private static void requireTitle(Movie movie) {
+        if (movie.getTitle() == null) {
+            throw new IllegalArgumentException("A movie needs a title to be cataloged");
+        }
+    }
+
+    private static final class MovieKey {
+
+        private final Class<? extends Movie> type;
+        private final String title;
+
+        private MovieKey(Movie movie) {
+            this.type = movie.getClass();
+            this.title = movie.getTitle();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof MovieKey)) {
+                return false;
+            }
+            MovieKey key = (MovieKey) other;
+            return type == key.type && title.equals(key.title);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, title);
+        }
+    }
+}
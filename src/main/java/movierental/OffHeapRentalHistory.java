@@ -0,0 +1,68 @@
+package movierental;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Rental history kept outside the Java heap: fixed-width records of movie id and days rented in one
+ * direct buffer. The heap holds only the buffer object, so the garbage collector neither scans nor
+ * copies the rentals. Statements are rendered through a {@link RentalCursor} that reuses one
+ * statement line for all rentals, so rendering allocates no object per rental.
+ * <p>
+ * The buffer doubles as it fills and is freed when the history becomes unreachable. A history holds
+ * at most 2^27 rentals, 1 GB of records. Not thread-safe.
+ */
+public class OffHeapRentalHistory extends CatalogRentalHistory {
+
+    private static final int RECORD_SIZE = 8;
+    private static final int DAYS_RENTED_FIELD = 4;
+
+    private ByteBuffer records = ByteBuffer.allocateDirect(INITIAL_CAPACITY * RECORD_SIZE);
+
+    public OffHeapRentalHistory(MovieCatalog catalog) {
+        super(catalog);
+    }
+
+    /**
+     * Passes the same line, repositioned on each rental, to the action; actions must not keep it.
+     */
+    @Override
+    public void forEachLine(Consumer<StatementLine> action) {
+        RentalCursor cursor = cursor();
+        while (cursor.next()) {
+            action.accept(cursor.currentLine());
+        }
+    }
+
+    /**
+     * A cursor over the rentals added so far, positioned before the first.
+     */
+    public RentalCursor cursor() {
+        return new RentalCursor(this, size());
+    }
+
+    @Override
+    protected int movieIdAt(int index) {
+        return records.getInt(index * RECORD_SIZE);
+    }
+
+    @Override
+    protected int daysRentedAt(int index) {
+        return records.getInt(index * RECORD_SIZE + DAYS_RENTED_FIELD);
+    }
+
+    @Override
+    protected void store(int index, int movieId, int daysRented) {
+        records.putInt(index * RECORD_SIZE, movieId);
+        records.putInt(index * RECORD_SIZE + DAYS_RENTED_FIELD, daysRented);
+    }
+
+    @Override
+    protected void ensureCapacity(int storedCount) {
+        if (storedCount * RECORD_SIZE == records.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(Math.multiplyExact(records.capacity(), 2));
+            grown.put(records.duplicate().clear());
+            records = grown;
+        }
+    }
+}
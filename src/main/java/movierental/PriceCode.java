@@ -0,0 +1,45 @@
+package movierental;
+
+/**
+ * The pricing rules of a movie type as data: its charge table and the rental length after which a
+ * rental earns bonus frequent renter points. Movies hold their price code in a final field, so
+ * pricing a list that mixes movie types stays on one monomorphic, inlinable path instead of
+ * dispatching through per-type overrides.
+ */
+public final class PriceCode {
+
+    private static final int DEFAULT_FREQUENT_RENTER_POINTS = 1;
+    private static final int BONUS_FREQUENT_RENTER_POINTS = 2;
+    private static final int NO_BONUS_THRESHOLD = Integer.MAX_VALUE;
+
+    private final ChargeTable chargeTable;
+    private final int bonusThresholdDays;
+
+    private PriceCode(ChargeTable chargeTable, int bonusThresholdDays) {
+        this.chargeTable = chargeTable;
+        this.bonusThresholdDays = bonusThresholdDays;
+    }
+
+    public static PriceCode withoutBonus(ChargeTable chargeTable) {
+        return new PriceCode(chargeTable, NO_BONUS_THRESHOLD);
+    }
+
+    public static PriceCode withBonusAfter(ChargeTable chargeTable, int bonusThresholdDays) {
+        return new PriceCode(chargeTable, bonusThresholdDays);
+    }
+
+    public ChargeTable getChargeTable() {
+        return chargeTable;
+    }
+
+    public Money chargeFor(int daysRented) {
+        return chargeTable.chargeFor(daysRented);
+    }
+
+    public int frequentRenterPointsFor(int daysRented) {
+        if (daysRented > bonusThresholdDays) {
+            return BONUS_FREQUENT_RENTER_POINTS;
+        }
+        return DEFAULT_FREQUENT_RENTER_POINTS;
+    }
+}
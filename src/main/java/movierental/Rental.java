@@ -1,13 +1,7 @@
 package movierental;
 
-import movierental.movietypes.NewReleaseMovie;
-
 public class Rental {
 
-    private static final int BASE_THRESHOLD_DAYS = 1;
-    private static final int DEFAULT_FREQUENT_RENTER_POINTS = 1;
-    private static final int BONUS_FREQUENT_RENTER_POINTS = 2;
-
     private final Movie movie;
     private final int daysRented;
 
@@ -21,25 +15,22 @@ public class Rental {
     }
 
     public double getCharge() {
-        return movie.getCharge(daysRented);
+        return calculateCharge().toDouble();
     }
 
-    public int getFrequentRenterPoints() {
-        if (qualifiesForBonusPoints()) {
-            return BONUS_FREQUENT_RENTER_POINTS;
-        }
-        return DEFAULT_FREQUENT_RENTER_POINTS;
+    public Money calculateCharge() {
+        return movie.calculateCharge(daysRented);
     }
 
-    private boolean qualifiesForBonusPoints() {
-        return isNewReleaseMovie() && isExtendedRental();
+    public int getFrequentRenterPoints() {
+        return movie.calculateFrequentRenterPoints(daysRented);
     }
 
-    private boolean isNewReleaseMovie() {
-        return movie instanceof NewReleaseMovie;
+    public Movie getMovie() {
+        return movie;
     }
 
-    private boolean isExtendedRental() {
-        return daysRented > BASE_THRESHOLD_DAYS;
+    public int getDaysRented() {
+        return daysRented;
     }
 }
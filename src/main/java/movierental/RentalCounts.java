@@ -0,0 +1,20 @@
+package movierental;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Number of rentals per movie type, maintained as rentals are added. Not thread-safe.
+ */
+public class RentalCounts {
+
+    private final Map<Class<? extends Movie>, Integer> countsByType = new HashMap<>();
+
+    public void add(Movie movie) {
+        countsByType.merge(movie.getClass(), 1, Integer::sum);
+    }
+
+    public int countOf(Class<? extends Movie> movieType) {
+        return countsByType.getOrDefault(movieType, 0);
+    }
+}
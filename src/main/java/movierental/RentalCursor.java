@@ -0,0 +1,59 @@
+package movierental;
+
+/**
+ * Flyweight over the rentals of an {@link OffHeapRentalHistory}. One cursor moves over all
+ * records and prices the current one in place through its movie's {@link PriceCode}. Records are
+ * read from the history on every access, so a cursor keeps working when the history's storage grows.
+ */
+public class RentalCursor {
+
+    private final CatalogRentalHistory history;
+    private final int size;
+    private int index = -1;
+    private StatementLine line;
+
+    RentalCursor(CatalogRentalHistory history, int size) {
+        this.history = history;
+        this.size = size;
+    }
+
+    /**
+     * Moves to the next rental, returning false once there is none.
+     */
+    public boolean next() {
+        if (index + 1 == size) {
+            return false;
+        }
+        index++;
+        return true;
+    }
+
+    public Movie getMovie() {
+        return history.movieAt(index);
+    }
+
+    public int getDaysRented() {
+        return history.daysRentedAt(index);
+    }
+
+    public Money getCharge() {
+        return getMovie().calculateCharge(getDaysRented());
+    }
+
+    public int getFrequentRenterPoints() {
+        return getMovie().calculateFrequentRenterPoints(getDaysRented());
+    }
+
+    /**
+     * The current rental as a statement line. Every call repositions the same line object, so a line
+     * is valid only until the next call.
+     */
+    StatementLine currentLine() {
+        if (line == null) {
+            line = StatementLine.from(getMovie(), getDaysRented());
+        } else {
+            line.reposition(getMovie(), getDaysRented());
+        }
+        return line;
+    }
+}
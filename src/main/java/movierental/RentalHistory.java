@@ -0,0 +1,33 @@
+package movierental;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The rentals of one customer, in the order they were added.
+ */
+public interface RentalHistory {
+
+    void add(Rental rental);
+
+    boolean isEmpty();
+
+    /**
+     * Prices every rental once and passes its statement line to the action, in rental order. A history
+     * may pass the same line object for every rental, so actions must not keep the line.
+     */
+    void forEachLine(Consumer<StatementLine> action);
+
+    /**
+     * An unmodifiable view for callers that need {@link Rental} objects.
+     */
+    List<Rental> asRentals();
+
+    /**
+     * A history that keeps showing the rentals added so far while rentals are added to this one.
+     * Histories that are not shared between threads may return themselves.
+     */
+    default RentalHistory snapshot() {
+        return this;
+    }
+}
@@ -0,0 +1,44 @@
+package movierental;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Rental history backed by a list of {@link Rental} objects.
+ */
+public class RentalList implements RentalHistory {
+
+    private final List<Rental> rentals;
+
+    public RentalList() {
+        this(new ArrayList<>());
+    }
+
+    RentalList(List<Rental> rentals) {
+        this.rentals = rentals;
+    }
+
+    @Override
+    public void add(Rental rental) {
+        rentals.add(rental);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return rentals.isEmpty();
+    }
+
+    @Override
+    public void forEachLine(Consumer<StatementLine> action) {
+        for (Rental rental : rentals) {
+            action.accept(StatementLine.from(rental));
+        }
+    }
+
+    @Override
+    public List<Rental> asRentals() {
+        return Collections.unmodifiableList(rentals);
+    }
+}
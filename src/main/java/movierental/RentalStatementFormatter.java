@@ -1,6 +1,10 @@
 package movierental;
 
+import movierental.metrics.StatementMetrics;
+
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.Consumer;
 
 public abstract class RentalStatementFormatter {
 
@@ -10,26 +14,125 @@ public abstract class RentalStatementFormatter {
     protected static final String FREQUENT_RENTER_POINTS_TEXT = "frequent renter points";
 
     public String format(String customerName, List<Rental> rentals) {
-        return formatHeader(customerName) + formatBody(rentals) + formatFooter(rentals);
+        return format(customerName, new RentalList(rentals));
     }
 
-    protected abstract String formatHeader(String customerName);
+    public void format(String customerName, List<Rental> rentals, Appendable output) {
+        format(customerName, new RentalList(rentals), output);
+    }
 
-    protected abstract String formatBody(List<Rental> rentals);
+    public void format(String customerName, List<Rental> rentals, ByteBuffer output) {
+        format(customerName, new RentalList(rentals), output);
+    }
 
-    protected abstract String formatFooter(List<Rental> rentals);
+    public String format(String customerName, RentalHistory rentals) {
+        StringBuilder statement = new StringBuilder();
+        format(customerName, rentals, statement);
+        return statement.toString();
+    }
 
-    protected abstract String formatLine(Rental rental);
+    /**
+     * Writes the statement into the output. While {@link StatementMetrics} are enabled, its latency,
+     * line count and length in characters are recorded for this formatter class.
+     */
+    public void format(String customerName, RentalHistory rentals, Appendable output) {
+        if (StatementMetrics.get().isEnabled()) {
+            formatMeasured(customerName, rentals, output);
+            return;
+        }
+        writeStatement(customerName, rentals, new StatementWriter(output));
+    }
+
+    /**
+     * Writes the statement as UTF-8 into the buffer from its position on, copying pre-encoded literals
+     * and titles in bulk. Fails with a {@link java.nio.BufferOverflowException} once the buffer is full.
+     * Measured like the character output, with the size in bytes.
+     */
+    public void format(String customerName, RentalHistory rentals, ByteBuffer output) {
+        if (StatementMetrics.get().isEnabled()) {
+            formatMeasured(customerName, rentals, output);
+            return;
+        }
+        encodeStatement(customerName, rentals, output);
+    }
+
+    /**
+     * Renders the byte output of {@link #format(String, RentalHistory, ByteBuffer)}; formatters with
+     * their own byte encoding override it.
+     */
+    protected StatementTotals encodeStatement(String customerName, RentalHistory rentals, ByteBuffer output) {
+        Utf8StatementWriter writer = new Utf8StatementWriter(output);
+        StatementTotals totals = writeStatement(customerName, rentals, writer);
+        writer.finish();
+        return totals;
+    }
+
+    /**
+     * Writes a whole statement through the hooks below. Formatters that share state between the
+     * hooks of one statement override it.
+     */
+    protected StatementTotals writeStatement(String customerName, RentalHistory rentals, StatementWriter writer) {
+        writeHeader(customerName, writer);
+        StatementTotals totals = writeBody(rentals, writer);
+        writeFooter(totals, writer);
+        return totals;
+    }
+
+    private void formatMeasured(String customerName, RentalHistory rentals, Appendable output) {
+        CountingAppendable countedOutput = new CountingAppendable(output);
+        long startNanos = System.nanoTime();
+        StatementTotals totals = writeStatement(customerName, rentals, new StatementWriter(countedOutput));
+        record(startNanos, totals, countedOutput.length());
+    }
 
-    protected double calculateTotalAmount(List<Rental> rentals) {
-        return rentals.stream()
-                .mapToDouble(Rental::getCharge)
-                .sum();
+    private void formatMeasured(String customerName, RentalHistory rentals, ByteBuffer output) {
+        int startPosition = output.position();
+        long startNanos = System.nanoTime();
+        StatementTotals totals = encodeStatement(customerName, rentals, output);
+        record(startNanos, totals, output.position() - startPosition);
     }
 
-    protected int calculateTotalFrequentRenterPoints(List<Rental> rentals) {
-        return rentals.stream()
-                .mapToInt(Rental::getFrequentRenterPoints)
-                .sum();
+    private void record(long startNanos, StatementTotals totals, long size) {
+        StatementMetrics.get().forFormatter(getClass()).record(System.nanoTime() - startNanos, totals.getLineCount(), size);
+    }
+
+    /**
+     * Writes only the header and footer from totals maintained elsewhere, independent of the
+     * number of rentals behind them.
+     */
+    public void formatSummary(String customerName, StatementTotals totals, Appendable output) {
+        writeSummary(customerName, totals, new StatementWriter(output));
+    }
+
+    protected void writeSummary(String customerName, StatementTotals totals, StatementWriter writer) {
+        writeHeader(customerName, writer);
+        writeFooter(totals, writer);
+    }
+
+    public String formatLine(Rental rental) {
+        StringBuilder line = new StringBuilder();
+        writeLine(StatementLine.from(rental), new StatementWriter(line));
+        return line.toString();
+    }
+
+    protected abstract void writeHeader(String customerName, StatementWriter writer);
+
+    protected abstract StatementTotals writeBody(RentalHistory rentals, StatementWriter writer);
+
+    protected abstract void writeFooter(StatementTotals totals, StatementWriter writer);
+
+    protected abstract void writeLine(StatementLine line, StatementWriter writer);
+
+    /**
+     * Prices every rental exactly once, hands its line to the given writer and accumulates the totals
+     * in the same pass over the rentals.
+     */
+    protected StatementTotals writeLines(RentalHistory rentals, Consumer<StatementLine> lineWriter) {
+        StatementTotals totals = new StatementTotals();
+        rentals.forEachLine(line -> {
+            lineWriter.accept(line);
+            totals.add(line);
+        });
+        return totals;
     }
 }
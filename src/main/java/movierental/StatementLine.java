@@ -0,0 +1,50 @@
+package movierental;
+
+/**
+ * The values of one rental as they appear on a statement, priced once per statement. Histories that
+ * render without an object per rental reposition one line from rental to rental.
+ */
+public class StatementLine {
+
+    private Movie movie;
+    private Money charge;
+    private int frequentRenterPoints;
+
+    private StatementLine(Movie movie, Money charge, int frequentRenterPoints) {
+        this.movie = movie;
+        this.charge = charge;
+        this.frequentRenterPoints = frequentRenterPoints;
+    }
+
+    public static StatementLine from(Rental rental) {
+        return new StatementLine(rental.getMovie(), rental.calculateCharge(), rental.getFrequentRenterPoints());
+    }
+
+    public static StatementLine from(Movie movie, int daysRented) {
+        return new StatementLine(movie,
+                movie.calculateCharge(daysRented),
+                movie.calculateFrequentRenterPoints(daysRented));
+    }
+
+    void reposition(Movie movie, int daysRented) {
+        this.movie = movie;
+        this.charge = movie.calculateCharge(daysRented);
+        this.frequentRenterPoints = movie.calculateFrequentRenterPoints(daysRented);
+    }
+
+    public Movie getMovie() {
+        return movie;
+    }
+
+    public String getMovieTitle() {
+        return movie.getTitle();
+    }
+
+    public Money getCharge() {
+        return charge;
+    }
+
+    public int getFrequentRenterPoints() {
+        return frequentRenterPoints;
+    }
+}
@@ -0,0 +1,37 @@
+package movierental;
+
+/**
+ * Running totals of the lines of one statement. Not thread-safe.
+ */
+public class StatementTotals {
+
+    private long totalChargeMinorUnits;
+    private int totalFrequentRenterPoints;
+    private int lineCount;
+
+    public void add(StatementLine line) {
+        totalChargeMinorUnits = Math.addExact(totalChargeMinorUnits, line.getCharge().getMinorUnits());
+        totalFrequentRenterPoints += line.getFrequentRenterPoints();
+        lineCount++;
+    }
+
+    public StatementTotals copy() {
+        StatementTotals copy = new StatementTotals();
+        copy.totalChargeMinorUnits = totalChargeMinorUnits;
+        copy.totalFrequentRenterPoints = totalFrequentRenterPoints;
+        copy.lineCount = lineCount;
+        return copy;
+    }
+
+    public Money getTotalCharge() {
+        return Money.ofMinorUnits(totalChargeMinorUnits);
+    }
+
+    public int getTotalFrequentRenterPoints() {
+        return totalFrequentRenterPoints;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+}
@@ -0,0 +1,52 @@
+package movierental;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams statement text into a caller supplied {@link Appendable}.
+ * I/O failures of the underlying sink are rethrown as {@link UncheckedIOException}
+ * so that formatters can write without checked exception plumbing.
+ */
+public class StatementWriter {
+
+    private final Appendable output;
+
+    public StatementWriter(Appendable output) {
+        this.output = output;
+    }
+
+    public StatementWriter write(CharSequence text) {
+        try {
+            output.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    public StatementWriter write(CharSequence text, int start, int end) {
+        try {
+            output.append(text, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    /**
+     * Writes pre-encoded text; byte-oriented writers copy its encoding instead of encoding it again.
+     */
+    public StatementWriter write(EncodedText text) {
+        return write(text.toString());
+    }
+
+    public StatementWriter write(char character) {
+        try {
+            output.append(character);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,11 @@
+package movierental;
+
+/**
+ * A presentation of movie titles, such as escaping them for markup, supplied by a formatter.
+ * {@link Movie} caches the styled title, so a style should be a shared constant.
+ */
+@FunctionalInterface
+public interface TitleStyle {
+
+    String style(String title);
+}
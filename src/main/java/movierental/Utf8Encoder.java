@@ -0,0 +1,95 @@
+package movierental;
+
+/**
+ * Encodes characters to UTF-8 as they are written, without intermediate arrays. A high surrogate is
+ * held until its low surrogate arrives, so a pair written one character at a time still becomes one
+ * four-byte sequence; an unpaired surrogate is written as a question mark, as {@link String#getBytes}
+ * does. Not thread-safe.
+ */
+public abstract class Utf8Encoder {
+
+    private static final byte REPLACEMENT = '?';
+    private static final char NO_HIGH_SURROGATE = 0;
+    private static final int MAX_ONE_BYTE = 0x7F;
+    private static final int MAX_TWO_BYTES = 0x7FF;
+    private static final int MAX_THREE_BYTES = 0xFFFF;
+    private static final int TWO_BYTE_LEAD = 0xC0;
+    private static final int THREE_BYTE_LEAD = 0xE0;
+    private static final int FOUR_BYTE_LEAD = 0xF0;
+    private static final int CONTINUATION_MARKER = 0x80;
+    private static final int CONTINUATION_MASK = 0x3F;
+    private static final int BITS_PER_CONTINUATION = 6;
+
+    private char highSurrogate = NO_HIGH_SURROGATE;
+
+    public void encode(CharSequence text, int start, int end) {
+        for (int index = start; index < end; index++) {
+            encode(text.charAt(index));
+        }
+    }
+
+    public void encode(char character) {
+        if (character <= MAX_ONE_BYTE && highSurrogate == NO_HIGH_SURROGATE) {
+            put((byte) character);
+            return;
+        }
+        if (Character.isLowSurrogate(character) && highSurrogate != NO_HIGH_SURROGATE) {
+            encodeCodePoint(Character.toCodePoint(highSurrogate, character));
+            highSurrogate = NO_HIGH_SURROGATE;
+            return;
+        }
+        finish();
+        if (Character.isHighSurrogate(character)) {
+            highSurrogate = character;
+        } else if (Character.isLowSurrogate(character)) {
+            put(REPLACEMENT);
+        } else {
+            encodeCodePoint(character);
+        }
+    }
+
+    /**
+     * Writes a held high surrogate that no low surrogate followed, before the encoded text ends or
+     * bytes are written around the encoder.
+     */
+    public void finish() {
+        if (highSurrogate != NO_HIGH_SURROGATE) {
+            highSurrogate = NO_HIGH_SURROGATE;
+            put(REPLACEMENT);
+        }
+    }
+
+    protected abstract void put(byte encodedByte);
+
+    private void encodeCodePoint(int codePoint) {
+        if (codePoint <= MAX_ONE_BYTE) {
+            put((byte) codePoint);
+        } else if (codePoint <= MAX_TWO_BYTES) {
+            put(lead(TWO_BYTE_LEAD, codePoint, 1));
+            put(continuation(codePoint, 0));
+        } else if (codePoint <= MAX_THREE_BYTES) {
+            put(lead(THREE_BYTE_LEAD, codePoint, 2));
+            put(continuation(codePoint, 1));
+            put(continuation(codePoint, 0));
+        } else {
+            put(lead(FOUR_BYTE_LEAD, codePoint, 3));
+            put(continuation(codePoint, 2));
+            put(continuation(codePoint, 1));
+            put(continuation(codePoint, 0));
+        }
+    }
+
+    /**
+     * The first byte of a sequence, carrying the bits above its continuation bytes.
+     */
+    private static byte lead(int marker, int codePoint, int continuationCount) {
+        return (byte) (marker | codePoint >> continuationCount * BITS_PER_CONTINUATION);
+    }
+
+    /**
+     * The continuation byte that carries the given six-bit group, counted from the lowest.
+     */
+    private static byte continuation(int codePoint, int group) {
+        return (byte) (CONTINUATION_MARKER | codePoint >> group * BITS_PER_CONTINUATION & CONTINUATION_MASK);
+    }
+}
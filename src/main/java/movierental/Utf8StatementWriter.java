@@ -0,0 +1,71 @@
+package movierental;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes statement text as UTF-8 into a {@link ByteBuffer}. Pre-encoded text is copied in bulk;
+ * other text goes through a {@link Utf8Encoder}, without allocating. Call {@link #finish()} when the
+ * statement is complete. Fails with a {@link java.nio.BufferOverflowException} once the buffer is full.
+ */
+class Utf8StatementWriter extends StatementWriter {
+
+    private final BufferEncoder encoder;
+
+    Utf8StatementWriter(ByteBuffer output) {
+        this(new BufferEncoder(output));
+    }
+
+    private Utf8StatementWriter(BufferEncoder encoder) {
+        super(encoder);
+        this.encoder = encoder;
+    }
+
+    @Override
+    public StatementWriter write(EncodedText text) {
+        encoder.finish();
+        text.writeTo(encoder.output);
+        return this;
+    }
+
+    @Override
+    public StatementWriter write(char character) {
+        encoder.encode(character);
+        return this;
+    }
+
+    void finish() {
+        encoder.finish();
+    }
+
+    private static final class BufferEncoder extends Utf8Encoder implements Appendable {
+
+        private final ByteBuffer output;
+
+        private BufferEncoder(ByteBuffer output) {
+            this.output = output;
+        }
+
+        @Override
+        public Appendable append(CharSequence text) {
+            encode(text, 0, text.length());
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end) {
+            encode(text, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char character) {
+            encode(character);
+            return this;
+        }
+
+        @Override
+        protected void put(byte encodedByte) {
+            output.put(encodedByte);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package movierental.batch;
+
+import movierental.Customer;
+import movierental.RentalStatementFormatter;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * State of one batch run. Submission happens on the caller's thread; rendering and delivery on
+ * the executor's threads. The semaphore bounds the statements that are queued, being rendered or
+ * held by the sink; a slot is freed when the sink hands its statement off. After a failure every
+ * slot is freed at once, so that submission stops even while the sink holds statements that will
+ * never be released.
+ */
+class BatchRun {
+
+    private static final String FAILURE_MESSAGE = "Batch statement run failed";
+
+    private final RentalStatementFormatter formatter;
+    private final StatementSink sink;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder characterCount = new LongAdder();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private int runningTasks;
+
+    BatchRun(RentalStatementFormatter formatter, StatementSink sink, int maxInFlight) {
+        this.formatter = formatter;
+        this.sink = sink;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    void submit(long sequence, Customer customer, Executor executor) {
+        inFlight.acquireUninterruptibly();
+        taskStarted();
+        try {
+            executor.execute(() -> renderAndFinish(sequence, customer));
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            taskFinished();
+            throw new BatchStatementException(FAILURE_MESSAGE, e);
+        }
+    }
+
+    boolean hasFailed() {
+        return failure.get() != null;
+    }
+
+    /**
+     * Waits until every submitted statement has been rendered and given to the sink.
+     */
+    synchronized void awaitCompletion() {
+        boolean interrupted = false;
+        while (runningTasks > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (hasFailed()) {
+            throw new BatchStatementException(FAILURE_MESSAGE, failure.get());
+        }
+    }
+
+    BatchStatistics statistics(Duration elapsed) {
+        return new BatchStatistics(statementCount.sum(), characterCount.sum(), elapsed);
+    }
+
+    private void renderAndFinish(long sequence, Customer customer) {
+        try {
+            render(sequence, customer);
+        } catch (RuntimeException e) {
+            fail(e);
+        } finally {
+            taskFinished();
+        }
+    }
+
+    private void render(long sequence, Customer customer) {
+        String statement = customer.generateStatement(formatter);
+        sink.accept(new RenderedStatement(sequence, customer.getName(), statement), inFlight::release);
+        statementCount.increment();
+        characterCount.add(statement.length());
+    }
+
+    private void fail(RuntimeException cause) {
+        if (failure.compareAndSet(null, cause)) {
+            inFlight.release(maxInFlight);
+        }
+    }
+
+    private synchronized void taskStarted() {
+        runningTasks++;
+    }
+
+    private synchronized void taskFinished() {
+        runningTasks--;
+        if (runningTasks == 0) {
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package movierental.batch;
+
+import movierental.Customer;
+import movierental.RentalStatementFormatter;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Renders the statements of many customers in parallel on a caller supplied executor, such as a
+ * {@link java.util.concurrent.ForkJoinPool} or, on Java 21+, a virtual-thread-per-task executor.
+ * At most {@code maxInFlight} statements are queued or being rendered at any time, so customers are
+ * pulled from the source only as fast as the executor and the sink keep up.
+ */
+public class BatchStatementEngine {
+
+    private final Executor executor;
+    private final int maxInFlight;
+
+    public BatchStatementEngine(Executor executor, int maxInFlight) {
+        validateMaxInFlight(maxInFlight);
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public BatchStatistics render(Stream<Customer> customers, RentalStatementFormatter formatter, StatementSink sink) {
+        return render(customers.iterator(), formatter, sink);
+    }
+
+    /**
+     * Blocks until every statement is delivered to the sink. Stops submitting after the first failure
+     * and rethrows it as a {@link BatchStatementException}.
+     */
+    public BatchStatistics render(Iterator<Customer> customers, RentalStatementFormatter formatter, StatementSink sink) {
+        BatchRun run = new BatchRun(formatter, sink, maxInFlight);
+        long startNanos = System.nanoTime();
+        for (long sequence = 0; customers.hasNext() && !run.hasFailed(); sequence++) {
+            run.submit(sequence, customers.next(), executor);
+        }
+        run.awaitCompletion();
+        return run.statistics(Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    private void validateMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive but was " + maxInFlight);
+        }
+    }
+}
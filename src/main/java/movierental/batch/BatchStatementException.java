@@ -0,0 +1,11 @@
+package movierental.batch;
+
+/**
+ * Raised when rendering or delivering a statement of a batch run fails.
+ */
+public class BatchStatementException extends RuntimeException {
+
+    public BatchStatementException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
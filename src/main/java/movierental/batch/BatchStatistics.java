@@ -0,0 +1,43 @@
+package movierental.batch;
+
+import java.time.Duration;
+
+/**
+ * Volume and throughput of one batch run.
+ */
+public class BatchStatistics {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final long statementCount;
+    private final long characterCount;
+    private final Duration elapsed;
+
+    public BatchStatistics(long statementCount, long characterCount, Duration elapsed) {
+        this.statementCount = statementCount;
+        this.characterCount = characterCount;
+        this.elapsed = elapsed;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getCharacterCount() {
+        return characterCount;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public double getStatementsPerSecond() {
+        return statementCount / Math.max(elapsed.toNanos() / NANOS_PER_SECOND, Double.MIN_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d statements, %d characters in %d ms (%.1f statements/s)",
+                statementCount, characterCount, elapsed.toMillis(), getStatementsPerSecond());
+    }
+}
@@ -0,0 +1,55 @@
+package movierental.batch;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Cuts the statement text appended to it into chunks of a fixed number of characters. A full chunk
+ * is handed on only when more text follows, so that {@link #finish()} can mark the final chunk.
+ */
+class ChunkingAppendable implements Appendable {
+
+    private final int chunkSize;
+    private final BiConsumer<String, Boolean> chunks;
+    private final StringBuilder chunk;
+
+    ChunkingAppendable(int chunkSize, BiConsumer<String, Boolean> chunks) {
+        this.chunkSize = chunkSize;
+        this.chunks = chunks;
+        this.chunk = new StringBuilder(chunkSize);
+    }
+
+    @Override
+    public Appendable append(CharSequence text) {
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence text, int start, int end) {
+        for (int position = start; position < end; ) {
+            handOnFullChunk();
+            int length = Math.min(end - position, chunkSize - chunk.length());
+            chunk.append(text, position, position + length);
+            position += length;
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char character) {
+        handOnFullChunk();
+        chunk.append(character);
+        return this;
+    }
+
+    void finish() {
+        chunks.accept(chunk.toString(), true);
+        chunk.setLength(0);
+    }
+
+    private void handOnFullChunk() {
+        if (chunk.length() == chunkSize) {
+            chunks.accept(chunk.toString(), false);
+            chunk.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package movierental.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Releases statements to the delegate strictly in input order. Out-of-order statements are held
+ * back; in a batch run they keep their in-flight slot until they are released, so their number is
+ * bounded by the in-flight limit of the engine.
+ * <p>
+ * A sink serves a single batch run, because sequences start at 0 in every run: a statement whose
+ * sequence was already received is rejected with an {@link IllegalStateException}, which fails the
+ * run instead of holding its statements forever. Thread-safe.
+ */
+public class OrderedStatementSink implements StatementSink {
+
+    private static final Runnable NOTHING_TO_HAND_OFF = () -> { };
+
+    private final StatementSink delegate;
+    private final Map<Long, HeldStatement> pending = new HashMap<>();
+    private long nextSequence;
+
+    public OrderedStatementSink(StatementSink delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void accept(RenderedStatement statement) {
+        accept(statement, NOTHING_TO_HAND_OFF);
+    }
+
+    @Override
+    public synchronized void accept(RenderedStatement statement, Runnable handedOff) {
+        if (isAlreadyReceived(statement.getSequence())) {
+            throw new IllegalStateException("Statement " + statement.getSequence()
+                    + " was already received; an OrderedStatementSink serves a single batch run");
+        }
+        pending.put(statement.getSequence(), new HeldStatement(statement, handedOff));
+        releaseConsecutiveStatements();
+    }
+
+    private boolean isAlreadyReceived(long sequence) {
+        return sequence < nextSequence || pending.containsKey(sequence);
+    }
+
+    private void releaseConsecutiveStatements() {
+        for (HeldStatement next = pending.remove(nextSequence); next != null; next = pending.remove(nextSequence)) {
+            nextSequence++;
+            delegate.accept(next.statement, next.handedOff);
+        }
+    }
+
+    private static final class HeldStatement {
+
+        private final RenderedStatement statement;
+        private final Runnable handedOff;
+
+        private HeldStatement(RenderedStatement statement, Runnable handedOff) {
+            this.statement = statement;
+            this.handedOff = handedOff;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package movierental.batch;
+
+/**
+ * A statement rendered by a batch run, tagged with the position of its customer in the input.
+ */
+public class RenderedStatement {
+
+    private final long sequence;
+    private final String customerName;
+    private final String statement;
+
+    public RenderedStatement(long sequence, String customerName, String statement) {
+        this.sequence = sequence;
+        this.customerName = customerName;
+        this.statement = statement;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getStatement() {
+        return statement;
+    }
+}
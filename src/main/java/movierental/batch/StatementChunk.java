@@ -0,0 +1,37 @@
+package movierental.batch;
+
+/**
+ * A consecutive piece of one customer's rendered statement. The chunks of a statement are published
+ * in order, and the last one is marked, so a subscriber can process statements of any size without
+ * holding them whole.
+ */
+public class StatementChunk {
+
+    private final long sequence;
+    private final String customerName;
+    private final String text;
+    private final boolean last;
+
+    public StatementChunk(long sequence, String customerName, String text, boolean last) {
+        this.sequence = sequence;
+        this.customerName = customerName;
+        this.text = text;
+        this.last = last;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+}
@@ -0,0 +1,35 @@
+package movierental.batch;
+
+import movierental.Customer;
+import movierental.RentalStatementFormatter;
+
+import java.util.function.Consumer;
+
+/**
+ * Renders statements into chunks of at most a fixed number of characters, handing on each chunk as
+ * soon as the text after it starts, so a statement is never held whole.
+ */
+class StatementChunker {
+
+    private final RentalStatementFormatter formatter;
+    private final int chunkSize;
+
+    StatementChunker(RentalStatementFormatter formatter, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive but was " + chunkSize);
+        }
+        this.formatter = formatter;
+        this.chunkSize = chunkSize;
+    }
+
+    StatementChunker withChunkSize(int chunkSize) {
+        return new StatementChunker(formatter, chunkSize);
+    }
+
+    void render(long sequence, Customer customer, Consumer<StatementChunk> chunks) {
+        ChunkingAppendable statement = new ChunkingAppendable(chunkSize,
+                (text, last) -> chunks.accept(new StatementChunk(sequence, customer.getName(), text, last)));
+        customer.generateStatement(formatter, statement);
+        statement.finish();
+    }
+}
@@ -0,0 +1,52 @@
+package movierental.batch;
+
+import movierental.Customer;
+import movierental.RentalStatementFormatter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Publishes the statements of a source of customers as {@link StatementChunk}s, honouring each
+ * subscriber's demand. Customers are pulled and rendered only as chunks are requested, so memory
+ * stays flat however slowly a subscriber consumes; a subscriber may request chunks in batches of any
+ * size. Every subscriber gets its own pass over the customers on a task run by the executor, and
+ * that task occupies an executor thread for as long as the subscription lasts.
+ */
+public class StatementPublisher implements Flow.Publisher<StatementChunk> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final Iterable<Customer> customers;
+    private final StatementChunker chunker;
+    private final Executor executor;
+
+    public StatementPublisher(Iterable<Customer> customers, RentalStatementFormatter formatter, Executor executor) {
+        this(customers, new StatementChunker(formatter, DEFAULT_CHUNK_SIZE), executor);
+    }
+
+    private StatementPublisher(Iterable<Customer> customers, StatementChunker chunker, Executor executor) {
+        this.customers = customers;
+        this.chunker = chunker;
+        this.executor = executor;
+    }
+
+    /**
+     * A publisher that cuts statements into chunks of at most the given number of characters.
+     */
+    public StatementPublisher withChunkSize(int chunkSize) {
+        return new StatementPublisher(customers, chunker.withChunkSize(chunkSize), executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super StatementChunk> subscriber) {
+        StatementSubscription subscription = new StatementSubscription(subscriber, customers.iterator(), chunker);
+        subscriber.onSubscribe(subscription);
+        try {
+            executor.execute(subscription);
+        } catch (RejectedExecutionException e) {
+            subscriber.onError(e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package movierental.batch;
+
+/**
+ * Receives the statements of a batch run. Statements arrive from several threads in completion
+ * order, so implementations must be thread-safe; wrap a sink in {@link OrderedStatementSink}
+ * to receive them in input order instead.
+ */
+@FunctionalInterface
+public interface StatementSink {
+
+    void accept(RenderedStatement statement);
+
+    /**
+     * Accepts a statement of a batch run and runs {@code handedOff} once the sink no longer holds on
+     * to it, which admits the next customer into the run. Sinks that buffer statements override this,
+     * so that what they buffer counts against the engine's in-flight limit.
+     */
+    default void accept(RenderedStatement statement, Runnable handedOff) {
+        try {
+            accept(statement);
+        } finally {
+            handedOff.run();
+        }
+    }
+}
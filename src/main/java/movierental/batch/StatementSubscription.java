@@ -0,0 +1,144 @@
+package movierental.batch;
+
+import movierental.Customer;
+
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Flow;
+
+/**
+ * One subscriber's pass over the customers. A single task renders the statements in order and
+ * publishes each chunk as soon as it fills; while the subscriber has no outstanding demand, the task
+ * waits before publishing, and rendering pauses with it. Only one chunk per subscriber is ever held.
+ * <p>
+ * At most one terminal signal is sent, and nothing follows it: the subscription is marked terminated
+ * before onComplete or onError is called, and an exception thrown by either propagates to the
+ * executor instead of being signalled back to the subscriber.
+ */
+class StatementSubscription implements Flow.Subscription, Runnable {
+
+    private final Flow.Subscriber<? super StatementChunk> subscriber;
+    private final Iterator<Customer> customers;
+    private final StatementChunker chunker;
+    private long demand;
+    private boolean cancelled;
+    private boolean terminated;
+    private RuntimeException failure;
+
+    StatementSubscription(Flow.Subscriber<? super StatementChunk> subscriber, Iterator<Customer> customers,
+                          StatementChunker chunker) {
+        this.subscriber = subscriber;
+        this.customers = customers;
+        this.chunker = chunker;
+    }
+
+    @Override
+    public synchronized void request(long count) {
+        if (count < 1) {
+            fail(new IllegalArgumentException("Requested chunk count must be positive: " + count));
+            return;
+        }
+        demand = addWithoutOverflow(demand, count);
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void cancel() {
+        cancelled = true;
+        notifyAll();
+    }
+
+    @Override
+    public void run() {
+        try {
+            publishAll();
+        } catch (SubscriptionEnded e) {
+            signalError(failureToSignal());
+            return;
+        } catch (RuntimeException e) {
+            signalError(e);
+            return;
+        }
+        if (terminate()) {
+            subscriber.onComplete();
+        }
+    }
+
+    private void publishAll() {
+        for (long sequence = 0; customers.hasNext(); sequence++) {
+            awaitDemand();
+            chunker.render(sequence, customers.next(), this::publish);
+        }
+    }
+
+    private void publish(StatementChunk chunk) {
+        awaitDemand();
+        takeDemand();
+        subscriber.onNext(chunk);
+    }
+
+    private synchronized void awaitDemand() {
+        while (demand == 0 && isActive()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new CancellationException("Statement publishing was interrupted"));
+            }
+        }
+        if (!isActive()) {
+            throw new SubscriptionEnded();
+        }
+    }
+
+    private synchronized void takeDemand() {
+        if (demand != Long.MAX_VALUE) {
+            demand--;
+        }
+    }
+
+    private synchronized boolean isActive() {
+        return !cancelled && failure == null;
+    }
+
+    private synchronized void fail(RuntimeException cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+        notifyAll();
+    }
+
+    private void signalError(RuntimeException cause) {
+        if (cause != null && terminate()) {
+            subscriber.onError(cause);
+        }
+    }
+
+    /**
+     * Claims the single terminal signal, which is not sent once the subscriber has cancelled.
+     */
+    private synchronized boolean terminate() {
+        boolean mayTerminate = !terminated && !cancelled;
+        terminated = true;
+        return mayTerminate;
+    }
+
+    private synchronized RuntimeException failureToSignal() {
+        return cancelled ? null : failure;
+    }
+
+    private static long addWithoutOverflow(long demand, long count) {
+        long sum = demand + count;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * Unwinds rendering once the subscriber has cancelled or the subscription has failed.
+     */
+    private static class SubscriptionEnded extends RuntimeException {
+
+        private SubscriptionEnded() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package movierental.cache;
+
+class CachedStatement {
+
+    private final long customerVersion;
+    private final String statement;
+
+    CachedStatement(long customerVersion, String statement) {
+        this.customerVersion = customerVersion;
+        this.statement = statement;
+    }
+
+    boolean isRenderedAt(long version) {
+        return customerVersion == version;
+    }
+
+    /**
+     * Keeps a slower render of an older version from replacing a newer one.
+     */
+    static CachedStatement newest(CachedStatement first, CachedStatement second) {
+        if (first.customerVersion > second.customerVersion) {
+            return first;
+        }
+        return second;
+    }
+
+    String getStatement() {
+        return statement;
+    }
+}
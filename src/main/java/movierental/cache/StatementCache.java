@@ -0,0 +1,76 @@
+package movierental.cache;
+
+import movierental.Customer;
+import movierental.RentalStatementFormatter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the most recently used rendered statements per customer and formatter type. An entry is
+ * current while the customer's version matches the one it was rendered at, so adding a rental
+ * invalidates every cached statement of that customer. Assumes formatters of the same class render
+ * identically. Thread-safe; statements are rendered outside the cache lock.
+ */
+public class StatementCache {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final boolean ACCESS_ORDER = true;
+
+    private final int maxEntries;
+    private final Map<StatementKey, CachedStatement> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long evictions;
+
+    public StatementCache(int maxEntries) {
+        validateMaxEntries(maxEntries);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(maxEntries, LOAD_FACTOR, ACCESS_ORDER) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedStatement> eldest) {
+                return evictIfFull();
+            }
+        };
+    }
+
+    public String statementFor(Customer customer, RentalStatementFormatter formatter) {
+        StatementKey key = new StatementKey(customer, formatter.getClass());
+        long version = customer.getVersion();
+        CachedStatement cached = lookup(key);
+        if (cached != null && cached.isRenderedAt(version)) {
+            hits.increment();
+            return cached.getStatement();
+        }
+        misses.increment();
+        return store(key, new CachedStatement(version, customer.generateStatement(formatter)));
+    }
+
+    public synchronized CacheStatistics statistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions);
+    }
+
+    private synchronized CachedStatement lookup(StatementKey key) {
+        return entries.get(key);
+    }
+
+    private synchronized String store(StatementKey key, CachedStatement statement) {
+        entries.merge(key, statement, CachedStatement::newest);
+        return statement.getStatement();
+    }
+
+    private boolean evictIfFull() {
+        if (entries.size() <= maxEntries) {
+            return false;
+        }
+        evictions++;
+        return true;
+    }
+
+    private void validateMaxEntries(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive but was " + maxEntries);
+        }
+    }
+}
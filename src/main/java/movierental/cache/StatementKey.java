@@ -0,0 +1,32 @@
+package movierental.cache;
+
+import movierental.Customer;
+import movierental.RentalStatementFormatter;
+
+/**
+ * Identifies a customer by identity together with the type of formatter that rendered its statement.
+ */
+class StatementKey {
+
+    private final Customer customer;
+    private final Class<? extends RentalStatementFormatter> formatterType;
+
+    StatementKey(Customer customer, Class<? extends RentalStatementFormatter> formatterType) {
+        this.customer = customer;
+        this.formatterType = formatterType;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof StatementKey)) {
+            return false;
+        }
+        StatementKey key = (StatementKey) other;
+        return customer == key.customer && formatterType == key.formatterType;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(customer) + formatterType.hashCode();
+    }
+}
@@ -1,50 +1,70 @@
 package movierental.formatters;
 
-import movierental.Rental;
+import movierental.EncodedText;
+import movierental.RentalHistory;
 import movierental.RentalStatementFormatter;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import movierental.StatementLine;
+import movierental.StatementTotals;
+import movierental.StatementWriter;
+import movierental.formatters.html.HtmlWriter;
+import movierental.formatters.template.StatementTemplate;
+import movierental.formatters.template.TemplateArguments;
 
 public class HtmlStatementFormatter extends RentalStatementFormatter {
 
     private static final String TABLE_ROW_FORMAT = "  <tr><td>%s</td><td>%.1f</td></tr>";
-    private static final String HEADER_FORMAT = "<h1>" + RENTAL_RECORD_TEXT + " <em>%s</em></h1>\n";
-    private static final String TABLE_FORMAT = "<table>\n%s\n</table>\n";
+    private static final EncodedText HEADER_START = EncodedText.of("<h1>" + RENTAL_RECORD_TEXT + " <em>");
+    private static final EncodedText HEADER_END = EncodedText.of("</em></h1>\n");
+    private static final EncodedText TABLE_START = EncodedText.of("<table>\n");
+    private static final EncodedText TABLE_END = EncodedText.of("</table>\n");
+    private static final char ROW_SEPARATOR = '\n';
     private static final String FOOTER_FORMAT = "<p>" + AMOUNT_OWED_TEXT + " <em>%.1f</em></p>\n<p>" + YOU_EARNED_TEXT + " <em>%d</em> " + FREQUENT_RENTER_POINTS_TEXT + "</p>";
 
+    private static final StatementTemplate TABLE_ROW_TEMPLATE = StatementTemplate.compile(TABLE_ROW_FORMAT);
+    private static final StatementTemplate FOOTER_TEMPLATE = StatementTemplate.compile(FOOTER_FORMAT);
+
     @Override
-    public String formatLine(Rental rental) {
-        return String.format(TABLE_ROW_FORMAT, rental.getMovieTitle(), rental.getCharge());
+    protected void writeLine(StatementLine line, StatementWriter writer) {
+        writeLine(line, new TemplateArguments(), writer);
     }
 
     @Override
-    protected String formatHeader(String customerName) {
-        return String.format(HEADER_FORMAT, customerName);
+    protected void writeHeader(String customerName, StatementWriter writer) {
+        new HtmlWriter(writer)
+                .writeMarkup(HEADER_START)
+                .writeEscaped(customerName)
+                .writeMarkup(HEADER_END);
     }
 
     @Override
-    protected String formatBody(List<Rental> rentals) {
+    protected StatementTotals writeBody(RentalHistory rentals, StatementWriter writer) {
         if (rentals.isEmpty()) {
-            return "";
+            return new StatementTotals();
         }
-        return wrapInTable(generateTableRows(rentals));
+        writer.write(TABLE_START);
+        StatementTotals totals = writeTableRows(rentals, writer);
+        writer.write(TABLE_END);
+        return totals;
     }
 
-    private String generateTableRows(List<Rental> rentals) {
-        return rentals.stream()
-                .map(this::formatLine)
-                .collect(Collectors.joining("\n"));
+    private StatementTotals writeTableRows(RentalHistory rentals, StatementWriter writer) {
+        TemplateArguments arguments = new TemplateArguments();
+        return writeLines(rentals, line -> {
+            writeLine(line, arguments, writer);
+            writer.write(ROW_SEPARATOR);
+        });
     }
 
-    private String wrapInTable(String tableRows) {
-        return String.format(TABLE_FORMAT, tableRows);
+    private void writeLine(StatementLine line, TemplateArguments arguments, StatementWriter writer) {
+        TABLE_ROW_TEMPLATE.render(writer, arguments.clear()
+                .text(line.getMovie().getTitle(HtmlWriter.TITLE_STYLE))
+                .money(line.getCharge()));
     }
 
     @Override
-    protected String formatFooter(List<Rental> rentals) {
-        return String.format(FOOTER_FORMAT,
-                calculateTotalAmount(rentals),
-                calculateTotalFrequentRenterPoints(rentals));
+    protected void writeFooter(StatementTotals totals, StatementWriter writer) {
+        FOOTER_TEMPLATE.render(writer, new TemplateArguments()
+                .money(totals.getTotalCharge())
+                .count(totals.getTotalFrequentRenterPoints()));
     }
 }
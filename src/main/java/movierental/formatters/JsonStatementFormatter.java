@@ -0,0 +1,141 @@
+package movierental.formatters;
+
+import movierental.RentalHistory;
+import movierental.RentalStatementFormatter;
+import movierental.StatementLine;
+import movierental.StatementTotals;
+import movierental.StatementWriter;
+import movierental.formatters.json.JsonOutput;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Renders statements as JSON, with exact two-decimal amounts:
+ * <pre>
+ * {"customer":"...","rentals":[{"title":"...","charge":3.50,"points":1}],"totalCharge":3.50,"frequentRenterPoints":1}
+ * </pre>
+ * Besides the character output of every formatter, it writes UTF-8 straight into an
+ * {@link OutputStream} or a {@link ByteBuffer}, so statements can be served without transcoding.
+ */
+public class JsonStatementFormatter extends RentalStatementFormatter {
+
+    private static final byte[] HEADER_START = JsonOutput.encode("{\"customer\":\"");
+    private static final byte[] HEADER_END = JsonOutput.encode("\"");
+    private static final byte[] RENTALS_START = JsonOutput.encode(",\"rentals\":[");
+    private static final byte[] RENTALS_END = JsonOutput.encode("]");
+    private static final byte[] RENTAL_SEPARATOR = JsonOutput.encode(",");
+    private static final byte[] TITLE_START = JsonOutput.encode("{\"title\":\"");
+    private static final byte[] CHARGE_START = JsonOutput.encode("\",\"charge\":");
+    private static final byte[] POINTS_START = JsonOutput.encode(",\"points\":");
+    private static final byte[] LINE_END = JsonOutput.encode("}");
+    private static final byte[] TOTAL_CHARGE_START = JsonOutput.encode(",\"totalCharge\":");
+    private static final byte[] TOTAL_POINTS_START = JsonOutput.encode(",\"frequentRenterPoints\":");
+    private static final byte[] FOOTER_END = JsonOutput.encode("}");
+
+    public void format(String customerName, RentalHistory rentals, OutputStream output) {
+        writeStatement(customerName, rentals, JsonOutput.to(output));
+    }
+
+    @Override
+    protected StatementTotals encodeStatement(String customerName, RentalHistory rentals, ByteBuffer output) {
+        return writeStatement(customerName, rentals, JsonOutput.to(output));
+    }
+
+    /**
+     * Writes the statement through one {@link JsonOutput}, instead of one per hook.
+     */
+    @Override
+    protected StatementTotals writeStatement(String customerName, RentalHistory rentals, StatementWriter writer) {
+        return writeStatement(customerName, rentals, JsonOutput.to(writer));
+    }
+
+    @Override
+    protected void writeSummary(String customerName, StatementTotals totals, StatementWriter writer) {
+        JsonOutput json = JsonOutput.to(writer);
+        writeHeader(customerName, json);
+        writeFooter(totals, json);
+    }
+
+    @Override
+    protected void writeHeader(String customerName, StatementWriter writer) {
+        writeHeader(customerName, JsonOutput.to(writer));
+    }
+
+    @Override
+    protected StatementTotals writeBody(RentalHistory rentals, StatementWriter writer) {
+        return writeRentals(rentals, JsonOutput.to(writer));
+    }
+
+    @Override
+    protected void writeFooter(StatementTotals totals, StatementWriter writer) {
+        writeFooter(totals, JsonOutput.to(writer));
+    }
+
+    @Override
+    protected void writeLine(StatementLine line, StatementWriter writer) {
+        writeLine(line, JsonOutput.to(writer));
+    }
+
+    private StatementTotals writeStatement(String customerName, RentalHistory rentals, JsonOutput json) {
+        writeHeader(customerName, json);
+        StatementTotals totals = writeRentals(rentals, json);
+        writeFooter(totals, json);
+        json.flush();
+        return totals;
+    }
+
+    private void writeHeader(String customerName, JsonOutput json) {
+        json.literal(HEADER_START);
+        json.string(customerName);
+        json.literal(HEADER_END);
+    }
+
+    private StatementTotals writeRentals(RentalHistory rentals, JsonOutput json) {
+        json.literal(RENTALS_START);
+        StatementTotals totals = writeLines(rentals, new RentalArrayWriter(json));
+        json.literal(RENTALS_END);
+        return totals;
+    }
+
+    private void writeLine(StatementLine line, JsonOutput json) {
+        json.literal(TITLE_START);
+        json.string(line.getMovieTitle());
+        json.literal(CHARGE_START);
+        json.money(line.getCharge());
+        json.literal(POINTS_START);
+        json.number(line.getFrequentRenterPoints());
+        json.literal(LINE_END);
+    }
+
+    private void writeFooter(StatementTotals totals, JsonOutput json) {
+        json.literal(TOTAL_CHARGE_START);
+        json.money(totals.getTotalCharge());
+        json.literal(TOTAL_POINTS_START);
+        json.number(totals.getTotalFrequentRenterPoints());
+        json.literal(FOOTER_END);
+    }
+
+    /**
+     * Writes the elements of the rentals array, separated by commas.
+     */
+    private class RentalArrayWriter implements Consumer<StatementLine> {
+
+        private final JsonOutput json;
+        private boolean first = true;
+
+        private RentalArrayWriter(JsonOutput json) {
+            this.json = json;
+        }
+
+        @Override
+        public void accept(StatementLine line) {
+            if (!first) {
+                json.literal(RENTAL_SEPARATOR);
+            }
+            first = false;
+            writeLine(line, json);
+        }
+    }
+}
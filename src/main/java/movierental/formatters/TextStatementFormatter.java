@@ -1,10 +1,12 @@
 package movierental.formatters;
 
-import movierental.Rental;
+import movierental.RentalHistory;
 import movierental.RentalStatementFormatter;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import movierental.StatementLine;
+import movierental.StatementTotals;
+import movierental.StatementWriter;
+import movierental.formatters.template.StatementTemplate;
+import movierental.formatters.template.TemplateArguments;
 
 public class TextStatementFormatter extends RentalStatementFormatter {
 
@@ -12,27 +14,36 @@ public class TextStatementFormatter extends RentalStatementFormatter {
     private static final String HEADER_FORMAT = RENTAL_RECORD_TEXT + " %s\n";
     private static final String FOOTER_FORMAT = AMOUNT_OWED_TEXT + " %s\n" + YOU_EARNED_TEXT + " %d " + FREQUENT_RENTER_POINTS_TEXT;
 
+    private static final StatementTemplate LINE_TEMPLATE = StatementTemplate.compile(LINE_FORMAT);
+    private static final StatementTemplate HEADER_TEMPLATE = StatementTemplate.compile(HEADER_FORMAT);
+    private static final StatementTemplate FOOTER_TEMPLATE = StatementTemplate.compile(FOOTER_FORMAT);
+
     @Override
-    public String formatLine(Rental rental) {
-        return String.format(LINE_FORMAT, rental.getMovieTitle(), rental.getCharge());
+    protected void writeLine(StatementLine line, StatementWriter writer) {
+        writeLine(line, new TemplateArguments(), writer);
     }
 
     @Override
-    protected String formatHeader(String customerName) {
-        return String.format(HEADER_FORMAT, customerName);
+    protected void writeHeader(String customerName, StatementWriter writer) {
+        HEADER_TEMPLATE.render(writer, new TemplateArguments().text(customerName));
     }
 
     @Override
-    protected String formatBody(List<Rental> rentals) {
-        return rentals.stream()
-                .map(this::formatLine)
-                .collect(Collectors.joining());
+    protected StatementTotals writeBody(RentalHistory rentals, StatementWriter writer) {
+        TemplateArguments arguments = new TemplateArguments();
+        return writeLines(rentals, line -> writeLine(line, arguments, writer));
+    }
+
+    private void writeLine(StatementLine line, TemplateArguments arguments, StatementWriter writer) {
+        LINE_TEMPLATE.render(writer, arguments.clear()
+                .text(line.getMovie().getEncodedTitle())
+                .money(line.getCharge()));
     }
 
     @Override
-    protected String formatFooter(List<Rental> rentals) {
-        return String.format(FOOTER_FORMAT,
-                calculateTotalAmount(rentals),
-                calculateTotalFrequentRenterPoints(rentals));
+    protected void writeFooter(StatementTotals totals, StatementWriter writer) {
+        FOOTER_TEMPLATE.render(writer, new TemplateArguments()
+                .money(totals.getTotalCharge())
+                .count(totals.getTotalFrequentRenterPoints()));
     }
 }
@@ -0,0 +1,84 @@
+package movierental.formatters.html;
+
+import movierental.EncodedText;
+import movierental.StatementWriter;
+import movierental.TitleStyle;
+
+/**
+ * Writes text into HTML markup, escaping the characters that are significant in element content and
+ * attribute values. Runs of characters that need no escaping are copied to the underlying writer in
+ * one call, so clean text costs a single scan and a single bulk write.
+ */
+public final class HtmlWriter {
+
+    private static final String[] REPLACEMENTS = new String['>' + 1];
+
+    static {
+        REPLACEMENTS['&'] = "&amp;";
+        REPLACEMENTS['<'] = "&lt;";
+        REPLACEMENTS['>'] = "&gt;";
+        REPLACEMENTS['"'] = "&quot;";
+        REPLACEMENTS['\''] = "&#39;";
+    }
+
+    /**
+     * Escapes movie titles; cached per movie by {@link movierental.Movie#getTitle(TitleStyle)}.
+     */
+    public static final TitleStyle TITLE_STYLE = HtmlWriter::escape;
+
+    private final StatementWriter writer;
+
+    public HtmlWriter(StatementWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Returns the escaped form of the given text, or the text itself when it contains nothing to escape.
+     */
+    public static String escape(String text) {
+        int first = firstEscapable(text, 0);
+        if (first == text.length()) {
+            return text;
+        }
+        StringBuilder escaped = new StringBuilder(text.length() + REPLACEMENTS.length);
+        new HtmlWriter(new StatementWriter(escaped)).writeEscaped(text, first);
+        return escaped.toString();
+    }
+
+    public HtmlWriter writeEscaped(CharSequence text) {
+        writeEscaped(text, firstEscapable(text, 0));
+        return this;
+    }
+
+    public HtmlWriter writeMarkup(EncodedText markup) {
+        writer.write(markup);
+        return this;
+    }
+
+    public HtmlWriter writeMarkup(CharSequence markup) {
+        writer.write(markup);
+        return this;
+    }
+
+    private void writeEscaped(CharSequence text, int firstEscapable) {
+        int start = 0;
+        for (int index = firstEscapable; index < text.length(); index = firstEscapable(text, start)) {
+            writer.write(text, start, index);
+            writer.write(REPLACEMENTS[text.charAt(index)]);
+            start = index + 1;
+        }
+        writer.write(text, start, text.length());
+    }
+
+    private static int firstEscapable(CharSequence text, int from) {
+        int index = from;
+        while (index < text.length() && isClean(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isClean(char character) {
+        return character >= REPLACEMENTS.length || REPLACEMENTS[character] == null;
+    }
+}
@@ -0,0 +1,20 @@
+package movierental.formatters.json;
+
+import java.nio.ByteBuffer;
+
+/**
+ * UTF-8 JSON put straight into a byte buffer.
+ */
+class ByteBufferJsonOutput extends Utf8JsonOutput {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferJsonOutput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    protected void put(byte encodedByte) {
+        buffer.put(encodedByte);
+    }
+}
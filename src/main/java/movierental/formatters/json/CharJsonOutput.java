@@ -0,0 +1,25 @@
+package movierental.formatters.json;
+
+import movierental.StatementWriter;
+
+/**
+ * JSON written as characters into a {@link StatementWriter}.
+ */
+class CharJsonOutput extends JsonOutput {
+
+    private final StatementWriter writer;
+
+    CharJsonOutput(StatementWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    protected void ascii(byte asciiByte) {
+        writer.write((char) asciiByte);
+    }
+
+    @Override
+    protected void character(char character) {
+        writer.write(character);
+    }
+}
@@ -0,0 +1,125 @@
+package movierental.formatters.json;
+
+import movierental.Money;
+import movierental.StatementWriter;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes JSON tokens without intermediate Strings: literals as pre-encoded ASCII bytes, numbers
+ * digit by digit and string contents escaped character by character.
+ */
+public abstract class JsonOutput {
+
+    private static final int RADIX = 10;
+    private static final int MAX_LONG_DIGITS = 19;
+    private static final long MINOR_UNITS_PER_UNIT = 100;
+    private static final byte MINUS_SIGN = '-';
+    private static final byte DECIMAL_POINT = '.';
+    private static final byte ZERO = '0';
+    private static final byte BACKSLASH = '\\';
+    private static final byte QUOTE = '"';
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] UNICODE_ESCAPE = "\\u00".getBytes(StandardCharsets.US_ASCII);
+    private static final char FIRST_PRINTABLE = ' ';
+    private static final int BITS_PER_HEX_DIGIT = 4;
+    private static final int HEX_DIGIT_MASK = 0xF;
+
+    private final byte[] digits = new byte[MAX_LONG_DIGITS];
+
+    /**
+     * Writes UTF-8 to the stream. Call {@link #flush()} when done.
+     */
+    public static JsonOutput to(OutputStream output) {
+        return new OutputStreamJsonOutput(output);
+    }
+
+    /**
+     * Writes UTF-8 into the buffer from its position on, which fails with a
+     * {@link java.nio.BufferOverflowException} once the buffer is full.
+     */
+    public static JsonOutput to(ByteBuffer output) {
+        return new ByteBufferJsonOutput(output);
+    }
+
+    public static JsonOutput to(StatementWriter output) {
+        return new CharJsonOutput(output);
+    }
+
+    /**
+     * Encodes a JSON literal once, for writing with {@link #literal(byte[])}.
+     */
+    public static byte[] encode(String asciiLiteral) {
+        return asciiLiteral.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public void literal(byte[] asciiBytes) {
+        for (byte asciiByte : asciiBytes) {
+            ascii(asciiByte);
+        }
+    }
+
+    /**
+     * Writes the contents of a JSON string, escaping quotes, backslashes and control characters.
+     */
+    public void string(CharSequence text) {
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+            if (character == QUOTE || character == BACKSLASH) {
+                ascii(BACKSLASH);
+                ascii((byte) character);
+            } else if (character < FIRST_PRINTABLE) {
+                literal(UNICODE_ESCAPE);
+                ascii(HEX_DIGITS[character >> BITS_PER_HEX_DIGIT]);
+                ascii(HEX_DIGITS[character & HEX_DIGIT_MASK]);
+            } else {
+                character(character);
+            }
+        }
+    }
+
+    public void number(long value) {
+        if (value < 0) {
+            ascii(MINUS_SIGN);
+        }
+        int count = 0;
+        long remaining = value;
+        do {
+            digits[count++] = (byte) (ZERO + Math.abs(remaining % RADIX));
+            remaining /= RADIX;
+        } while (remaining != 0);
+        while (count > 0) {
+            ascii(digits[--count]);
+        }
+    }
+
+    /**
+     * Writes the exact amount with two decimals.
+     */
+    public void money(Money amount) {
+        long minorUnits = amount.getMinorUnits();
+        if (minorUnits < 0) {
+            ascii(MINUS_SIGN);
+        }
+        number(Math.abs(minorUnits / MINOR_UNITS_PER_UNIT));
+        ascii(DECIMAL_POINT);
+        long cents = Math.abs(minorUnits % MINOR_UNITS_PER_UNIT);
+        ascii((byte) (ZERO + cents / RADIX));
+        ascii((byte) (ZERO + cents % RADIX));
+    }
+
+    /**
+     * Writes out anything still buffered.
+     */
+    public void flush() {
+    }
+
+    protected abstract void ascii(byte asciiByte);
+
+    /**
+     * Writes a character that needs no escaping, which may be one half of a surrogate pair.
+     */
+    protected abstract void character(char character);
+}
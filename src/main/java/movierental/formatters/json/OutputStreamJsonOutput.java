@@ -0,0 +1,50 @@
+package movierental.formatters.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * UTF-8 JSON gathered in a small buffer and written to a stream a buffer at a time. I/O failures
+ * are rethrown as {@link UncheckedIOException}.
+ */
+class OutputStreamJsonOutput extends Utf8JsonOutput {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream output;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int count;
+
+    OutputStreamJsonOutput(OutputStream output) {
+        this.output = output;
+    }
+
+    @Override
+    protected void put(byte encodedByte) {
+        if (count == buffer.length) {
+            writeBuffer();
+        }
+        buffer[count++] = encodedByte;
+    }
+
+    @Override
+    public void flush() {
+        super.flush();
+        writeBuffer();
+        try {
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBuffer() {
+        try {
+            output.write(buffer, 0, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        count = 0;
+    }
+}
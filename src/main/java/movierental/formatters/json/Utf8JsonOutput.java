@@ -0,0 +1,33 @@
+package movierental.formatters.json;
+
+import movierental.Utf8Encoder;
+
+/**
+ * JSON encoded as UTF-8 bytes as it is written, through a {@link Utf8Encoder}.
+ */
+abstract class Utf8JsonOutput extends JsonOutput {
+
+    private final Utf8Encoder encoder = new Utf8Encoder() {
+        @Override
+        protected void put(byte encodedByte) {
+            Utf8JsonOutput.this.put(encodedByte);
+        }
+    };
+
+    @Override
+    protected void ascii(byte asciiByte) {
+        encoder.encode((char) asciiByte);
+    }
+
+    @Override
+    protected void character(char character) {
+        encoder.encode(character);
+    }
+
+    @Override
+    public void flush() {
+        encoder.finish();
+    }
+
+    protected abstract void put(byte encodedByte);
+}
@@ -0,0 +1,17 @@
+package movierental.formatters.template;
+
+import movierental.StatementWriter;
+
+class IntegerSegment implements TemplateSegment {
+
+    private final int position;
+
+    IntegerSegment(int position) {
+        this.position = position;
+    }
+
+    @Override
+    public void render(StatementWriter writer, TemplateArguments arguments, NumberRenderer numberRenderer) {
+        numberRenderer.writeInteger(writer, arguments.countAt(position));
+    }
+}
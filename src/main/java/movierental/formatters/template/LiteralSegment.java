@@ -0,0 +1,18 @@
+package movierental.formatters.template;
+
+import movierental.EncodedText;
+import movierental.StatementWriter;
+
+class LiteralSegment implements TemplateSegment {
+
+    private final EncodedText text;
+
+    LiteralSegment(String text) {
+        this.text = EncodedText.of(text);
+    }
+
+    @Override
+    public void render(StatementWriter writer, TemplateArguments arguments, NumberRenderer numberRenderer) {
+        writer.write(text);
+    }
+}
@@ -0,0 +1,99 @@
+package movierental.formatters.template;
+
+import movierental.Money;
+import movierental.StatementWriter;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Writes numbers digit by digit from their integer representation, without intermediate
+ * Strings, producing exactly what {@link String#format} and {@link Double#toString} would
+ * produce for the same amount.
+ */
+class NumberRenderer {
+
+    private static final char PLAIN_DECIMAL_SEPARATOR = '.';
+    private static final char PLAIN_ZERO_DIGIT = '0';
+    private static final char MINUS_SIGN = '-';
+    private static final long MINOR_UNITS_PER_TENTH = 10;
+    private static final long HALF_TENTH_IN_MINOR_UNITS = 5;
+    private static final long MAX_PLAIN_MINOR_UNITS = 1_000_000_000L;
+    private static final int RADIX = 10;
+
+    private final Locale locale;
+    private final char zeroDigit;
+    private final char decimalSeparator;
+
+    NumberRenderer(Locale locale) {
+        this.locale = locale;
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.zeroDigit = symbols.getZeroDigit();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+    }
+
+    boolean rendersFor(Locale otherLocale) {
+        return locale.equals(otherLocale);
+    }
+
+    /**
+     * Rounds half up to one decimal, as {@code %.1f} does.
+     */
+    void writeOneDecimal(StatementWriter writer, Money amount) {
+        long minorUnits = amount.getMinorUnits();
+        long tenths = (Math.abs(minorUnits) + HALF_TENTH_IN_MINOR_UNITS) / MINOR_UNITS_PER_TENTH;
+        writeSign(writer, minorUnits);
+        writeDigits(writer, tenths / RADIX, zeroDigit);
+        writer.write(decimalSeparator);
+        writer.write(digit(tenths % RADIX, zeroDigit));
+    }
+
+    /**
+     * Writes the shortest decimal with at least one fraction digit, as {@link Double#toString} does
+     * below its scientific notation threshold.
+     */
+    void writePlain(StatementWriter writer, Money amount) {
+        long minorUnits = amount.getMinorUnits();
+        if (Math.abs(minorUnits) >= MAX_PLAIN_MINOR_UNITS) {
+            writer.write(Double.toString(amount.toDouble()));
+            return;
+        }
+        long hundredths = Math.abs(minorUnits);
+        writeSign(writer, minorUnits);
+        writeDigits(writer, hundredths / (RADIX * RADIX), PLAIN_ZERO_DIGIT);
+        writer.write(PLAIN_DECIMAL_SEPARATOR);
+        writer.write(digit(hundredths / RADIX % RADIX, PLAIN_ZERO_DIGIT));
+        writeSignificantHundredth(writer, hundredths % RADIX);
+    }
+
+    void writeInteger(StatementWriter writer, int value) {
+        writeSign(writer, value);
+        writeDigits(writer, Math.abs((long) value), zeroDigit);
+    }
+
+    private void writeSignificantHundredth(StatementWriter writer, long hundredth) {
+        if (hundredth != 0) {
+            writer.write(digit(hundredth, PLAIN_ZERO_DIGIT));
+        }
+    }
+
+    private void writeSign(StatementWriter writer, long value) {
+        if (value < 0) {
+            writer.write(MINUS_SIGN);
+        }
+    }
+
+    private void writeDigits(StatementWriter writer, long value, char zero) {
+        long divisor = 1;
+        while (value / divisor >= RADIX) {
+            divisor *= RADIX;
+        }
+        for (; divisor > 0; divisor /= RADIX) {
+            writer.write(digit(value / divisor % RADIX, zero));
+        }
+    }
+
+    private char digit(long value, char zero) {
+        return (char) (zero + value);
+    }
+}
@@ -0,0 +1,17 @@
+package movierental.formatters.template;
+
+import movierental.StatementWriter;
+
+class OneDecimalSegment implements TemplateSegment {
+
+    private final int position;
+
+    OneDecimalSegment(int position) {
+        this.position = position;
+    }
+
+    @Override
+    public void render(StatementWriter writer, TemplateArguments arguments, NumberRenderer numberRenderer) {
+        numberRenderer.writeOneDecimal(writer, arguments.moneyAt(position));
+    }
+}
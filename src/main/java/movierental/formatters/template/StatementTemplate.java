@@ -0,0 +1,87 @@
+package movierental.formatters.template;
+
+import movierental.StatementWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A format string compiled once into a program of segments, so that rendering a line
+ * neither re-parses the format nor boxes its numbers. Supports the {@code %s}, {@code %.1f}
+ * and {@code %d} specifiers with the semantics of {@link String#format}. Like String.format, numbers
+ * use the symbols of the default format locale at the time of rendering; the symbols are looked up
+ * again only when that locale changes.
+ */
+public final class StatementTemplate {
+
+    private static final char SPECIFIER_START = '%';
+    private static final String TEXT_SPECIFIER = "%s";
+    private static final String ONE_DECIMAL_SPECIFIER = "%.1f";
+    private static final String INTEGER_SPECIFIER = "%d";
+
+    private final TemplateSegment[] segments;
+    private volatile NumberRenderer numberRenderer;
+
+    private StatementTemplate(TemplateSegment[] segments) {
+        this.segments = segments;
+        this.numberRenderer = new NumberRenderer(Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public static StatementTemplate compile(String format) {
+        List<TemplateSegment> segments = new ArrayList<>();
+        int position = 0;
+        int start = 0;
+        for (int index = format.indexOf(SPECIFIER_START); index >= 0; index = format.indexOf(SPECIFIER_START, start)) {
+            addLiteral(segments, format.substring(start, index));
+            String specifier = specifierAt(format, index);
+            segments.add(placeholder(specifier, position++));
+            start = index + specifier.length();
+        }
+        addLiteral(segments, format.substring(start));
+        return new StatementTemplate(segments.toArray(new TemplateSegment[0]));
+    }
+
+    public void render(StatementWriter writer, TemplateArguments arguments) {
+        NumberRenderer renderer = currentNumberRenderer();
+        for (TemplateSegment segment : segments) {
+            segment.render(writer, arguments, renderer);
+        }
+    }
+
+    private NumberRenderer currentNumberRenderer() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        NumberRenderer renderer = numberRenderer;
+        if (renderer.rendersFor(locale)) {
+            return renderer;
+        }
+        renderer = new NumberRenderer(locale);
+        numberRenderer = renderer;
+        return renderer;
+    }
+
+    private static void addLiteral(List<TemplateSegment> segments, String literal) {
+        if (!literal.isEmpty()) {
+            segments.add(new LiteralSegment(literal));
+        }
+    }
+
+    private static String specifierAt(String format, int index) {
+        for (String specifier : List.of(TEXT_SPECIFIER, ONE_DECIMAL_SPECIFIER, INTEGER_SPECIFIER)) {
+            if (format.startsWith(specifier, index)) {
+                return specifier;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format specifier at " + index + " in: " + format);
+    }
+
+    private static TemplateSegment placeholder(String specifier, int position) {
+        if (specifier.equals(ONE_DECIMAL_SPECIFIER)) {
+            return new OneDecimalSegment(position);
+        }
+        if (specifier.equals(INTEGER_SPECIFIER)) {
+            return new IntegerSegment(position);
+        }
+        return new TextSegment(position);
+    }
+}
@@ -0,0 +1,98 @@
+package movierental.formatters.template;
+
+import movierental.EncodedText;
+import movierental.Money;
+
+/**
+ * Positional arguments for a {@link StatementTemplate}. An instance can be cleared and refilled
+ * for every line of a statement. Not thread-safe.
+ */
+public final class TemplateArguments {
+
+    private static final int MAX_ARGUMENTS = 4;
+
+    private final CharSequence[] texts = new CharSequence[MAX_ARGUMENTS];
+    private final EncodedText[] encodedTexts = new EncodedText[MAX_ARGUMENTS];
+    private final Money[] amounts = new Money[MAX_ARGUMENTS];
+    private final int[] counts = new int[MAX_ARGUMENTS];
+    private final ArgumentKind[] kinds = new ArgumentKind[MAX_ARGUMENTS];
+    private int size;
+
+    public TemplateArguments clear() {
+        size = 0;
+        return this;
+    }
+
+    public TemplateArguments text(CharSequence text) {
+        texts[nextPosition(ArgumentKind.TEXT)] = text;
+        return this;
+    }
+
+    public TemplateArguments text(EncodedText text) {
+        encodedTexts[nextPosition(ArgumentKind.ENCODED_TEXT)] = text;
+        return this;
+    }
+
+    public TemplateArguments money(Money amount) {
+        amounts[nextPosition(ArgumentKind.MONEY)] = amount;
+        return this;
+    }
+
+    public TemplateArguments count(int count) {
+        counts[nextPosition(ArgumentKind.COUNT)] = count;
+        return this;
+    }
+
+    boolean isMoneyAt(int position) {
+        return kindAt(position) == ArgumentKind.MONEY;
+    }
+
+    boolean isEncodedTextAt(int position) {
+        return kindAt(position) == ArgumentKind.ENCODED_TEXT;
+    }
+
+    EncodedText encodedTextAt(int position) {
+        requireKind(position, ArgumentKind.ENCODED_TEXT);
+        return encodedTexts[position];
+    }
+
+    CharSequence textAt(int position) {
+        requireKind(position, ArgumentKind.TEXT);
+        return texts[position];
+    }
+
+    Money moneyAt(int position) {
+        requireKind(position, ArgumentKind.MONEY);
+        return amounts[position];
+    }
+
+    int countAt(int position) {
+        requireKind(position, ArgumentKind.COUNT);
+        return counts[position];
+    }
+
+    private int nextPosition(ArgumentKind kind) {
+        if (size == MAX_ARGUMENTS) {
+            throw new IllegalStateException("A template accepts at most " + MAX_ARGUMENTS + " arguments");
+        }
+        kinds[size] = kind;
+        return size++;
+    }
+
+    private void requireKind(int position, ArgumentKind expected) {
+        if (kindAt(position) != expected) {
+            throw new IllegalArgumentException("Argument " + position + " is not of kind " + expected);
+        }
+    }
+
+    private ArgumentKind kindAt(int position) {
+        if (position >= size) {
+            throw new IllegalArgumentException("Missing template argument " + position);
+        }
+        return kinds[position];
+    }
+
+    private enum ArgumentKind {
+        TEXT, ENCODED_TEXT, MONEY, COUNT
+    }
+}
@@ -0,0 +1,8 @@
+package movierental.formatters.template;
+
+import movierental.StatementWriter;
+
+interface TemplateSegment {
+
+    void render(StatementWriter writer, TemplateArguments arguments, NumberRenderer numberRenderer);
+}
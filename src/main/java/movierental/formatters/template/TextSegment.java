@@ -0,0 +1,28 @@
+package movierental.formatters.template;
+
+import movierental.StatementWriter;
+
+/**
+ * Renders a {@code %s} placeholder. Money is written the way {@link String#valueOf(double)} would write its amount.
+ */
+class TextSegment implements TemplateSegment {
+
+    private final int position;
+
+    TextSegment(int position) {
+        this.position = position;
+    }
+
+    @Override
+    public void render(StatementWriter writer, TemplateArguments arguments, NumberRenderer numberRenderer) {
+        if (arguments.isMoneyAt(position)) {
+            numberRenderer.writePlain(writer, arguments.moneyAt(position));
+            return;
+        }
+        if (arguments.isEncodedTextAt(position)) {
+            writer.write(arguments.encodedTextAt(position));
+            return;
+        }
+        writer.write(arguments.textAt(position));
+    }
+}
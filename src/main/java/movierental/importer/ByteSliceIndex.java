@@ -0,0 +1,96 @@
+package movierental.importer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Open-addressing map from byte strings to ints, looked up straight from a slice of a buffer, so a
+ * field is copied out only the first time it is seen. Not thread-safe.
+ */
+class ByteSliceIndex {
+
+    static final int ABSENT = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    private byte[][] keys = new byte[INITIAL_CAPACITY][];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size;
+
+    static int hashOf(ByteBuffer bytes, int start, int end) {
+        int hash = FNV_OFFSET_BASIS;
+        for (int index = start; index < end; index++) {
+            hash = (hash ^ bytes.get(index)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    int get(ByteBuffer bytes, int start, int end, int hash) {
+        for (int slot = slotOf(hash); keys[slot] != null; slot = nextSlot(slot)) {
+            if (hashes[slot] == hash && matches(keys[slot], bytes, start, end)) {
+                return values[slot];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Adds a key that is not in the index yet.
+     */
+    void put(byte[] key, int hash, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int slot = slotOf(hash);
+        while (keys[slot] != null) {
+            slot = nextSlot(slot);
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        values[slot] = value;
+        size++;
+    }
+
+    private void grow() {
+        byte[][] oldKeys = keys;
+        int[] oldHashes = hashes;
+        int[] oldValues = values;
+        keys = new byte[oldKeys.length * 2][];
+        hashes = new int[keys.length];
+        values = new int[keys.length];
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != null) {
+                put(oldKeys[slot], oldHashes[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private int slotOf(int hash) {
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    private int nextSlot(int slot) {
+        return (slot + 1) & (keys.length - 1);
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer bytes, int start, int end) {
+        if (key.length != end - start) {
+            return false;
+        }
+        for (int index = 0; index < key.length; index++) {
+            if (key[index] != bytes.get(start + index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static byte[] copyOf(ByteBuffer bytes, int start, int end) {
+        byte[] copy = new byte[end - start];
+        bytes.duplicate().position(start).get(copy);
+        return copy;
+    }
+}
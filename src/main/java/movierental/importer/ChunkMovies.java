@@ -0,0 +1,35 @@
+package movierental.importer;
+
+import movierental.MovieCatalog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Resolves the type and title fields of one chunk to ids in the shared movie catalog. Each distinct
+ * title is decoded and registered once per chunk; later rows find its id from the raw bytes.
+ */
+class ChunkMovies {
+
+    private final MovieCatalog catalog;
+    private final ByteSliceIndex[] idsByType = new ByteSliceIndex[FeedMovieType.values().length];
+
+    ChunkMovies(MovieCatalog catalog) {
+        this.catalog = catalog;
+        for (int type = 0; type < idsByType.length; type++) {
+            idsByType[type] = new ByteSliceIndex();
+        }
+    }
+
+    int idOf(FeedMovieType type, ByteBuffer bytes, int titleStart, int titleEnd) {
+        ByteSliceIndex ids = idsByType[type.ordinal()];
+        int hash = ByteSliceIndex.hashOf(bytes, titleStart, titleEnd);
+        int id = ids.get(bytes, titleStart, titleEnd, hash);
+        if (id == ByteSliceIndex.ABSENT) {
+            byte[] title = ByteSliceIndex.copyOf(bytes, titleStart, titleEnd);
+            id = catalog.idOf(type.movieTitled(new String(title, StandardCharsets.UTF_8)));
+            ids.put(title, hash, id);
+        }
+        return id;
+    }
+}
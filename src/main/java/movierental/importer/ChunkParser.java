@@ -0,0 +1,130 @@
+package movierental.importer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the lines {@code customer,title,type,days} of one chunk straight from its bytes. Type and
+ * days are the last two fields, so titles may contain commas; customer names may not. Blank lines
+ * are skipped and a carriage return before a line break is ignored.
+ */
+class ChunkParser {
+
+    private static final byte FIELD_SEPARATOR = ',';
+    private static final byte LINE_BREAK = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int NOT_FOUND = -1;
+    private static final int RADIX = 10;
+    private static final int MAX_DAYS_BEFORE_LAST_DIGIT = Integer.MAX_VALUE / RADIX;
+    private static final int MAX_LAST_DIGIT = Integer.MAX_VALUE % RADIX;
+
+    private final ByteBuffer bytes;
+    private final long chunkStart;
+    private final ChunkMovies movies;
+    private final ByteSliceIndex customerIndexes = new ByteSliceIndex();
+    private final List<String> customerNames = new ArrayList<>();
+    private final List<RentalColumns> rentals = new ArrayList<>();
+    private long rowCount;
+
+    ChunkParser(ByteBuffer bytes, long chunkStart, ChunkMovies movies) {
+        this.bytes = bytes;
+        this.chunkStart = chunkStart;
+        this.movies = movies;
+    }
+
+    ParsedChunk parse() {
+        for (int lineStart = 0; lineStart < bytes.limit(); ) {
+            int lineEnd = endOfLine(lineStart);
+            parseLine(lineStart, withoutCarriageReturn(lineStart, lineEnd));
+            lineStart = lineEnd + 1;
+        }
+        return new ParsedChunk(customerNames, rentals, rowCount);
+    }
+
+    private void parseLine(int start, int end) {
+        if (start == end) {
+            return;
+        }
+        int customerEnd = indexOf(FIELD_SEPARATOR, start, end);
+        int typeEnd = lastIndexOf(FIELD_SEPARATOR, start, end);
+        int titleEnd = lastIndexOf(FIELD_SEPARATOR, start, typeEnd);
+        if (customerEnd == NOT_FOUND || titleEnd <= customerEnd) {
+            throw malformed(start, "expected customer,title,type,days");
+        }
+        FeedMovieType type = FeedMovieType.named(bytes, titleEnd + 1, typeEnd);
+        if (type == null) {
+            throw malformed(start, "unknown movie type");
+        }
+        int movieId = movies.idOf(type, bytes, customerEnd + 1, titleEnd);
+        rentals.get(customerIndexOf(start, customerEnd)).add(movieId, parseDays(start, typeEnd + 1, end));
+        rowCount++;
+    }
+
+    private int customerIndexOf(int start, int end) {
+        int hash = ByteSliceIndex.hashOf(bytes, start, end);
+        int index = customerIndexes.get(bytes, start, end, hash);
+        if (index == ByteSliceIndex.ABSENT) {
+            byte[] name = ByteSliceIndex.copyOf(bytes, start, end);
+            index = customerNames.size();
+            customerNames.add(new String(name, StandardCharsets.UTF_8));
+            rentals.add(new RentalColumns());
+            customerIndexes.put(name, hash, index);
+        }
+        return index;
+    }
+
+    private int parseDays(int lineStart, int start, int end) {
+        if (start == end) {
+            throw malformed(lineStart, "missing days rented");
+        }
+        int days = 0;
+        for (int index = start; index < end; index++) {
+            int digit = bytes.get(index) - '0';
+            if (digit < 0 || digit >= RADIX) {
+                throw malformed(lineStart, "days rented is not a number");
+            }
+            if (isTooLargeForDigit(days, digit)) {
+                throw malformed(lineStart, "days rented is too large");
+            }
+            days = days * RADIX + digit;
+        }
+        return days;
+    }
+
+    private static boolean isTooLargeForDigit(int days, int digit) {
+        return days > MAX_DAYS_BEFORE_LAST_DIGIT || (days == MAX_DAYS_BEFORE_LAST_DIGIT && digit > MAX_LAST_DIGIT);
+    }
+
+    private int endOfLine(int start) {
+        int lineBreak = indexOf(LINE_BREAK, start, bytes.limit());
+        return lineBreak == NOT_FOUND ? bytes.limit() : lineBreak;
+    }
+
+    private int withoutCarriageReturn(int start, int end) {
+        return end > start && bytes.get(end - 1) == CARRIAGE_RETURN ? end - 1 : end;
+    }
+
+    private int indexOf(byte target, int from, int to) {
+        for (int index = from; index < to; index++) {
+            if (bytes.get(index) == target) {
+                return index;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private int lastIndexOf(byte target, int from, int to) {
+        for (int index = to - 1; index >= from; index--) {
+            if (bytes.get(index) == target) {
+                return index;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private RentalFeedException malformed(int lineStart, String reason) {
+        return new RentalFeedException("Malformed rental at byte " + (chunkStart + lineStart) + ": " + reason);
+    }
+}
@@ -0,0 +1,73 @@
+package movierental.importer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A line-aligned byte range of a feed: it starts at the beginning of a line and ends after a line
+ * break or at the end of the file.
+ */
+class FeedChunk {
+
+    private static final byte LINE_BREAK = '\n';
+    private static final int SCAN_BUFFER_SIZE = 4096;
+
+    private final long start;
+    private final long end;
+
+    private FeedChunk(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Cuts the file into chunks of about the target size, each extended to the end of its last line.
+     */
+    static List<FeedChunk> plan(FileChannel feed, long targetSize) throws IOException {
+        List<FeedChunk> chunks = new ArrayList<>();
+        long size = feed.size();
+        for (long start = 0; start < size; ) {
+            long end = endOfLineAtOrAfter(feed, Math.min(start + targetSize, size) - 1);
+            chunks.add(new FeedChunk(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    MappedByteBuffer map(FileChannel feed) {
+        try {
+            return feed.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    long getStart() {
+        return start;
+    }
+
+    long length() {
+        return end - start;
+    }
+
+    private static long endOfLineAtOrAfter(FileChannel feed, long position) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        for (long offset = position; ; offset += scan.limit()) {
+            scan.clear();
+            if (feed.read(scan, offset) <= 0) {
+                return feed.size();
+            }
+            scan.flip();
+            for (int index = 0; index < scan.limit(); index++) {
+                if (scan.get(index) == LINE_BREAK) {
+                    return offset + index + 1;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package movierental.importer;
+
+import movierental.Movie;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * The movie type column of a rental feed, matched against the raw bytes of the field.
+ */
+enum FeedMovieType {
+
+    REGULAR(RegularMovie::new),
+    NEW_RELEASE(NewReleaseMovie::new),
+    CHILDRENS(ChildrensMovie::new);
+
+    private static final FeedMovieType[] TYPES = values();
+
+    private final byte[] name = name().getBytes(StandardCharsets.US_ASCII);
+    private final Function<String, Movie> factory;
+
+    FeedMovieType(Function<String, Movie> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * The type named by the bytes from start to end, or null if none is.
+     */
+    static FeedMovieType named(ByteBuffer bytes, int start, int end) {
+        for (FeedMovieType type : TYPES) {
+            if (type.isNamedBy(bytes, start, end)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    Movie movieTitled(String title) {
+        return factory.apply(title);
+    }
+
+    private boolean isNamedBy(ByteBuffer bytes, int start, int end) {
+        if (end - start != name.length) {
+            return false;
+        }
+        for (int index = 0; index < name.length; index++) {
+            if (bytes.get(start + index) != name[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
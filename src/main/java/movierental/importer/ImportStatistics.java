@@ -0,0 +1,44 @@
+package movierental.importer;
+
+import java.time.Duration;
+
+/**
+ * Volume and throughput of one feed import.
+ */
+public class ImportStatistics {
+
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final long rowCount;
+    private final long byteCount;
+    private final Duration elapsed;
+
+    public ImportStatistics(long rowCount, long byteCount, Duration elapsed) {
+        this.rowCount = rowCount;
+        this.byteCount = byteCount;
+        this.elapsed = elapsed;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public double getMegabytesPerSecond() {
+        return byteCount / BYTES_PER_MEGABYTE / Math.max(elapsed.toNanos() / NANOS_PER_SECOND, Double.MIN_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows, %d bytes in %d ms (%.1f MB/s)",
+                rowCount, byteCount, elapsed.toMillis(), getMegabytesPerSecond());
+    }
+}
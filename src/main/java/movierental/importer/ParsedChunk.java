@@ -0,0 +1,37 @@
+package movierental.importer;
+
+import movierental.ColumnarRentalHistory;
+import movierental.MovieCatalog;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The rentals of one chunk of a feed, grouped by customer in order of first appearance.
+ */
+class ParsedChunk {
+
+    private final List<String> customerNames;
+    private final List<RentalColumns> rentals;
+    private final long rowCount;
+
+    ParsedChunk(List<String> customerNames, List<RentalColumns> rentals, long rowCount) {
+        this.customerNames = customerNames;
+        this.rentals = rentals;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Appends this chunk's rentals to the histories of their customers, creating missing ones.
+     */
+    void mergeInto(Map<String, ColumnarRentalHistory> histories, MovieCatalog catalog) {
+        for (int customer = 0; customer < customerNames.size(); customer++) {
+            rentals.get(customer).appendTo(
+                    histories.computeIfAbsent(customerNames.get(customer), name -> new ColumnarRentalHistory(catalog)));
+        }
+    }
+
+    long getRowCount() {
+        return rowCount;
+    }
+}
@@ -0,0 +1,33 @@
+package movierental.importer;
+
+import movierental.ColumnarRentalHistory;
+
+import java.util.Arrays;
+
+/**
+ * The rentals of one customer found in one chunk of a feed, as movie ids and days rented.
+ */
+class RentalColumns {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] movieIds = new int[INITIAL_CAPACITY];
+    private int[] daysRented = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int movieId, int days) {
+        if (size == movieIds.length) {
+            movieIds = Arrays.copyOf(movieIds, size * 2);
+            daysRented = Arrays.copyOf(daysRented, size * 2);
+        }
+        movieIds[size] = movieId;
+        daysRented[size] = days;
+        size++;
+    }
+
+    void appendTo(ColumnarRentalHistory history) {
+        for (int index = 0; index < size; index++) {
+            history.add(movieIds[index], daysRented[index]);
+        }
+    }
+}
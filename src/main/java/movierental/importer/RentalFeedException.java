@@ -0,0 +1,11 @@
+package movierental.importer;
+
+/**
+ * Raised when a line of a rental feed cannot be parsed.
+ */
+public class RentalFeedException extends RuntimeException {
+
+    public RentalFeedException(String message) {
+        super(message);
+    }
+}
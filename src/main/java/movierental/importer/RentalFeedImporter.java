@@ -0,0 +1,119 @@
+package movierental.importer;
+
+import movierental.ColumnarRentalHistory;
+import movierental.Customer;
+import movierental.MovieCatalog;
+import movierental.registry.CustomerRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Loads rental feeds of {@code customer,title,type,days} lines, where type is REGULAR, NEW_RELEASE
+ * or CHILDRENS, into a {@link CustomerRegistry}. The feed is cut into line-aligned chunks that are
+ * memory-mapped and parsed in parallel on the executor, straight from their bytes: a String is
+ * decoded only for each distinct customer and title of a chunk, and rentals are collected as movie
+ * ids and days rather than {@link movierental.Rental} objects.
+ * <p>
+ * Chunks are merged in file order, so every customer's rentals keep the order of the feed. New
+ * customers get a {@link ColumnarRentalHistory} over the shared catalog; rentals of customers already
+ * in the registry are added to them. The registry should not be changed elsewhere during an import.
+ */
+public class RentalFeedImporter {
+
+    public static final long DEFAULT_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private final MovieCatalog catalog;
+    private final Executor executor;
+    private final long chunkSize;
+
+    public RentalFeedImporter(MovieCatalog catalog, Executor executor) {
+        this(catalog, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    public RentalFeedImporter(MovieCatalog catalog, Executor executor, long chunkSize) {
+        if (chunkSize < 1 || chunkSize > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and 1 GB but was " + chunkSize);
+        }
+        this.catalog = catalog;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Blocks until the whole feed is loaded. Fails with a {@link RentalFeedException} on the first
+     * malformed line, before any customer is changed.
+     */
+    public ImportStatistics importInto(Path feed, CustomerRegistry customers) {
+        long startNanos = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(feed)) {
+            Map<String, ColumnarRentalHistory> histories = new LinkedHashMap<>();
+            long rowCount = mergeChunks(parseChunks(channel), histories);
+            histories.forEach((name, history) -> register(customers, name, history));
+            return new ImportStatistics(rowCount, channel.size(), Duration.ofNanos(System.nanoTime() - startNanos));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Merges the chunks in file order. When one fails, chunks that have not started parsing yet are
+     * cancelled.
+     */
+    private long mergeChunks(List<CompletableFuture<ParsedChunk>> parsings,
+                             Map<String, ColumnarRentalHistory> histories) {
+        long rowCount = 0;
+        try {
+            for (CompletableFuture<ParsedChunk> parsing : parsings) {
+                ParsedChunk chunk = await(parsing);
+                chunk.mergeInto(histories, catalog);
+                rowCount += chunk.getRowCount();
+            }
+            return rowCount;
+        } catch (RuntimeException e) {
+            parsings.forEach(parsing -> parsing.cancel(false));
+            throw e;
+        }
+    }
+
+    private List<CompletableFuture<ParsedChunk>> parseChunks(FileChannel channel) throws IOException {
+        return FeedChunk.plan(channel, chunkSize).stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> parse(chunk, channel), executor))
+                .collect(Collectors.toList());
+    }
+
+    private ParsedChunk parse(FeedChunk chunk, FileChannel channel) {
+        return new ChunkParser(chunk.map(channel), chunk.getStart(), new ChunkMovies(catalog)).parse();
+    }
+
+    private void register(CustomerRegistry customers, String name, ColumnarRentalHistory history) {
+        Optional<Customer> existing = customers.find(name);
+        if (existing.isPresent()) {
+            history.asRentals().forEach(existing.get()::addRental);
+        } else {
+            customers.register(new Customer(name, history));
+        }
+    }
+
+    private static ParsedChunk await(CompletableFuture<ParsedChunk> parsing) {
+        try {
+            return parsing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
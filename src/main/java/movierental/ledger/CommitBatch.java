@@ -0,0 +1,76 @@
+package movierental.ledger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Log frames appended during one commit window, and the signal their appenders wait on until the
+ * frames are durable. Filled under the log's lock, then handed to the committer thread.
+ */
+class CommitBatch {
+
+    private final ByteArrayOutputStream frames = new ByteArrayOutputStream();
+    private final CompletableFuture<Void> committed = new CompletableFuture<>();
+    private int size;
+    private long firstAppendNanos;
+    private long appendNanosSum;
+
+    void add(byte[] frame, long appendNanos) {
+        if (isEmpty()) {
+            firstAppendNanos = appendNanos;
+        }
+        frames.writeBytes(frame);
+        appendNanosSum += appendNanos;
+        size++;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getFirstAppendNanos() {
+        return firstAppendNanos;
+    }
+
+    ByteBuffer contents() {
+        return ByteBuffer.wrap(frames.toByteArray());
+    }
+
+    /**
+     * Sum over all appends of the time from append to the given commit time.
+     */
+    long totalLatencyNanos(long commitNanos) {
+        return size * commitNanos - appendNanosSum;
+    }
+
+    void markCommitted() {
+        committed.complete(null);
+    }
+
+    void markFailed(Exception cause) {
+        committed.completeExceptionally(cause);
+    }
+
+    void awaitCommit() {
+        try {
+            committed.join();
+        } catch (CompletionException e) {
+            throw commitFailure(e.getCause());
+        }
+    }
+
+    private static RuntimeException commitFailure(Throwable cause) {
+        if (cause instanceof IOException) {
+            return new UncheckedIOException("Rental log commit failed", (IOException) cause);
+        }
+        return new IllegalStateException("Rental log commit failed", cause);
+    }
+}
@@ -0,0 +1,33 @@
+package movierental.ledger;
+
+import java.time.Duration;
+
+/**
+ * How long a {@link RentalLog} lets appends gather before one fsync makes them durable, and how
+ * many appends fill a commit early. The window bounds the durability latency of a single append;
+ * the batch size bounds the work of one commit.
+ */
+public class GroupCommitPolicy {
+
+    private final Duration commitWindow;
+    private final int maxBatchSize;
+
+    public GroupCommitPolicy(Duration commitWindow, int maxBatchSize) {
+        if (commitWindow.isNegative()) {
+            throw new IllegalArgumentException("Commit window must not be negative: " + commitWindow);
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        }
+        this.commitWindow = commitWindow;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getCommitWindow() {
+        return commitWindow;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+}
@@ -0,0 +1,72 @@
+package movierental.ledger;
+
+/**
+ * Byte layout of a rental ledger file. All integers are big-endian.
+ * <pre>
+ * header          magic, format version, movie count, customer count, rental count
+ * movie table     per movie:    title offset, movie type code
+ * customer index  per customer: name offset, first rental, rental count (sorted by name)
+ * rental records  per rental:   movie index, days rented
+ * string table    per string:   UTF-8 length, UTF-8 bytes
+ * </pre>
+ * String offsets are relative to the start of the string table.
+ */
+final class LedgerLayout {
+
+    static final int MAGIC = 0x4D524C31;
+    static final int FORMAT_VERSION = 1;
+
+    static final int MAGIC_POSITION = 0;
+    static final int FORMAT_VERSION_POSITION = 4;
+    static final int MOVIE_COUNT_POSITION = 8;
+    static final int CUSTOMER_COUNT_POSITION = 12;
+    static final int RENTAL_COUNT_POSITION = 16;
+    static final int HEADER_SIZE = 20;
+
+    static final int MOVIE_RECORD_SIZE = 8;
+    static final int MOVIE_TYPE_FIELD = 4;
+    static final int CUSTOMER_RECORD_SIZE = 12;
+    static final int FIRST_RENTAL_FIELD = 4;
+    static final int RENTAL_COUNT_FIELD = 8;
+    static final int RENTAL_RECORD_SIZE = 8;
+    static final int DAYS_RENTED_FIELD = 4;
+
+    private final int movieTableStart;
+    private final int customerIndexStart;
+    private final int rentalRecordsStart;
+    private final int stringTableStart;
+
+    LedgerLayout(int movieCount, int customerCount, int rentalCount) {
+        movieTableStart = HEADER_SIZE;
+        customerIndexStart = sectionEnd(movieTableStart, movieCount, MOVIE_RECORD_SIZE);
+        rentalRecordsStart = sectionEnd(customerIndexStart, customerCount, CUSTOMER_RECORD_SIZE);
+        stringTableStart = sectionEnd(rentalRecordsStart, rentalCount, RENTAL_RECORD_SIZE);
+    }
+
+    int movieRecord(int movieIndex) {
+        return movieTableStart + movieIndex * MOVIE_RECORD_SIZE;
+    }
+
+    int customerRecord(int customerIndex) {
+        return customerIndexStart + customerIndex * CUSTOMER_RECORD_SIZE;
+    }
+
+    int rentalRecord(int rentalIndex) {
+        return rentalRecordsStart + rentalIndex * RENTAL_RECORD_SIZE;
+    }
+
+    int string(int stringOffset) {
+        return stringTableStart + stringOffset;
+    }
+
+    /**
+     * Total file size for a string table of the given length.
+     */
+    int fileSize(int stringTableLength) {
+        return Math.addExact(stringTableStart, stringTableLength);
+    }
+
+    private static int sectionEnd(int sectionStart, int recordCount, int recordSize) {
+        return Math.addExact(sectionStart, Math.multiplyExact(recordCount, recordSize));
+    }
+}
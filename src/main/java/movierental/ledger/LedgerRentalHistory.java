@@ -0,0 +1,77 @@
+package movierental.ledger;
+
+import movierental.Rental;
+import movierental.RentalHistory;
+import movierental.StatementLine;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The rentals of one ledger customer: the records stored in the ledger, followed by rentals added
+ * since it was opened. Not thread-safe.
+ */
+class LedgerRentalHistory implements RentalHistory {
+
+    private final RentalLedger ledger;
+    private final int firstRental;
+    private final int storedCount;
+    private final List<Rental> added = new ArrayList<>();
+
+    LedgerRentalHistory(RentalLedger ledger, int firstRental, int storedCount) {
+        this.ledger = ledger;
+        this.firstRental = firstRental;
+        this.storedCount = storedCount;
+    }
+
+    @Override
+    public void add(Rental rental) {
+        added.add(rental);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return storedCount == 0 && added.isEmpty();
+    }
+
+    @Override
+    public void forEachLine(Consumer<StatementLine> action) {
+        for (int index = 0; index < storedCount; index++) {
+            action.accept(storedLine(firstRental + index));
+        }
+        for (Rental rental : added) {
+            action.accept(StatementLine.from(rental));
+        }
+    }
+
+    @Override
+    public List<Rental> asRentals() {
+        return new RentalView();
+    }
+
+    private StatementLine storedLine(int rentalIndex) {
+        return StatementLine.from(ledger.movieOfRental(rentalIndex), ledger.daysRentedOfRental(rentalIndex));
+    }
+
+    private Rental storedRental(int rentalIndex) {
+        return new Rental(ledger.movieOfRental(rentalIndex), ledger.daysRentedOfRental(rentalIndex));
+    }
+
+    private class RentalView extends AbstractList<Rental> {
+
+        @Override
+        public Rental get(int index) {
+            if (index < storedCount) {
+                return storedRental(firstRental + index);
+            }
+            return added.get(index - storedCount);
+        }
+
+        @Override
+        public int size() {
+            return storedCount + added.size();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package movierental.ledger;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Frames log records as payload length, CRC32 of the payload, then the payload, so that a record
+ * torn or damaged by a crash is recognised on replay.
+ */
+final class LogFrames {
+
+    private static final int HEADER_SIZE = 8;
+    private static final int ZERO_SCAN_BLOCK_SIZE = 8192;
+
+    private LogFrames() {
+    }
+
+    static byte[] frame(byte[] payload) {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(HEADER_SIZE + payload.length);
+        try (DataOutputStream output = new DataOutputStream(frame)) {
+            output.writeInt(payload.length);
+            output.writeInt(checksumOf(payload));
+            output.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return frame.toByteArray();
+    }
+
+    /**
+     * Passes the payload of every intact frame to the action, in log order, and stops at the end of
+     * the log or at a torn last frame. A last frame is torn when it reaches past the end of the log or
+     * when only zeros follow its start. Any other damage fails before the action sees a payload,
+     * because cutting it off would drop the frames after it.
+     *
+     * @return the length of the intact prefix of the log
+     */
+    static long readAll(Path log, int maxPayloadSize, Consumer<byte[]> action) {
+        long intactLength = scan(log, maxPayloadSize, payload -> {
+        });
+        requireTornTail(log, intactLength, maxPayloadSize);
+        return scan(log, maxPayloadSize, action);
+    }
+
+    private static long scan(Path log, int maxPayloadSize, Consumer<byte[]> action) {
+        long intactLength = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(log)))) {
+            for (byte[] payload = readFrame(input, maxPayloadSize); payload != null; payload = readFrame(input, maxPayloadSize)) {
+                action.accept(payload);
+                intactLength += HEADER_SIZE + payload.length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return intactLength;
+    }
+
+    private static byte[] readFrame(DataInputStream input, int maxPayloadSize) throws IOException {
+        try {
+            int length = input.readInt();
+            int checksum = input.readInt();
+            if (isInvalidLength(length, maxPayloadSize)) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            input.readFully(payload);
+            return checksum == checksumOf(payload) ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static void requireTornTail(Path log, long intactLength, int maxPayloadSize) {
+        try (FileChannel channel = FileChannel.open(log)) {
+            if (channel.size() == intactLength || isTornFrame(channel, intactLength, maxPayloadSize) || isZeroFilled(channel, intactLength)) {
+                return;
+            }
+            throw new IOException("Rental log " + log + " is damaged at byte " + intactLength + ", before its last frame");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isTornFrame(FileChannel channel, long start, int maxPayloadSize) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        int read = 0;
+        while (header.hasRemaining() && read >= 0) {
+            read = channel.read(header, start + header.position());
+        }
+        if (header.hasRemaining()) {
+            return true;
+        }
+        int length = header.getInt(0);
+        return !isInvalidLength(length, maxPayloadSize) && start + HEADER_SIZE + length > channel.size();
+    }
+
+    private static boolean isZeroFilled(FileChannel channel, long start) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(ZERO_SCAN_BLOCK_SIZE);
+        for (long position = start; channel.read(block, position) > 0; position += block.position(), block.clear()) {
+            for (int index = 0; index < block.position(); index++) {
+                if (block.get(index) != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isInvalidLength(int length, int maxPayloadSize) {
+        return length <= 0 || length > maxPayloadSize;
+    }
+
+    private static int checksumOf(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,48 @@
+package movierental.ledger;
+
+import java.time.Duration;
+
+/**
+ * Group commit counters of a {@link RentalLog} since it was opened. Latency is measured from an
+ * append to the end of the fsync that made it durable.
+ */
+public class LogStatistics {
+
+    private final long commits;
+    private final long events;
+    private final Duration totalLatency;
+    private final Duration maxLatency;
+
+    public LogStatistics(long commits, long events, Duration totalLatency, Duration maxLatency) {
+        this.commits = commits;
+        this.events = events;
+        this.totalLatency = totalLatency;
+        this.maxLatency = maxLatency;
+    }
+
+    public long getCommits() {
+        return commits;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public double getAverageBatchSize() {
+        return commits == 0 ? 0 : (double) events / commits;
+    }
+
+    public Duration getAverageLatency() {
+        return events == 0 ? Duration.ZERO : totalLatency.dividedBy(events);
+    }
+
+    public Duration getMaxLatency() {
+        return maxLatency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d events in %d commits (%.1f per commit), latency %d us average, %d us max",
+                events, commits, getAverageBatchSize(), getAverageLatency().toNanos() / 1000, maxLatency.toNanos() / 1000);
+    }
+}
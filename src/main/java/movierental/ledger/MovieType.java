@@ -0,0 +1,45 @@
+package movierental.ledger;
+
+import movierental.Movie;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+
+import java.util.function.Function;
+
+/**
+ * The movie types a ledger can store, identified on disk by their ordinal.
+ * New types must be appended so that existing ledgers keep their meaning.
+ */
+enum MovieType {
+
+    REGULAR(RegularMovie.class, RegularMovie::new),
+    NEW_RELEASE(NewReleaseMovie.class, NewReleaseMovie::new),
+    CHILDRENS(ChildrensMovie.class, ChildrensMovie::new);
+
+    private static final MovieType[] BY_CODE = values();
+
+    private final Class<? extends Movie> movieClass;
+    private final Function<String, Movie> factory;
+
+    MovieType(Class<? extends Movie> movieClass, Function<String, Movie> factory) {
+        this.movieClass = movieClass;
+        this.factory = factory;
+    }
+
+    static int codeOf(Movie movie) {
+        for (MovieType type : BY_CODE) {
+            if (type.movieClass == movie.getClass()) {
+                return type.ordinal();
+            }
+        }
+        throw new IllegalArgumentException("Movie type cannot be stored in a ledger: " + movie.getClass().getName());
+    }
+
+    static Movie movieFor(int code, String title) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown movie type code in ledger: " + code);
+        }
+        return BY_CODE[code].factory.apply(title);
+    }
+}
@@ -0,0 +1,67 @@
+package movierental.ledger;
+
+import movierental.MovieCatalog;
+import movierental.Rental;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * One rental added to a customer, encoded as customer name, movie type code, movie title and days
+ * rented. Names and titles are limited to 65535 UTF-8 bytes each.
+ */
+class RentalEvent {
+
+    private static final int STRING_LENGTH_PREFIX_BYTES = Short.BYTES;
+    private static final int MAX_MODIFIED_UTF8_BYTES = 0xFFFF;
+    private static final int MAX_ENCODED_STRING_SIZE = STRING_LENGTH_PREFIX_BYTES + MAX_MODIFIED_UTF8_BYTES;
+    private static final int ENCODED_STRING_COUNT = 2;
+    private static final int TYPE_CODE_BYTES = Byte.BYTES;
+    private static final int DAYS_RENTED_BYTES = Integer.BYTES;
+
+    static final int MAX_ENCODED_SIZE = ENCODED_STRING_COUNT * MAX_ENCODED_STRING_SIZE + TYPE_CODE_BYTES + DAYS_RENTED_BYTES;
+
+    private final String customerName;
+    private final Rental rental;
+
+    RentalEvent(String customerName, Rental rental) {
+        this.customerName = customerName;
+        this.rental = rental;
+    }
+
+    String getCustomerName() {
+        return customerName;
+    }
+
+    Rental getRental() {
+        return rental;
+    }
+
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(customerName);
+            output.writeByte(MovieType.codeOf(rental.getMovie()));
+            output.writeUTF(rental.getMovieTitle());
+            output.writeInt(rental.getDaysRented());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static RentalEvent decode(byte[] encoded, MovieCatalog movies) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            String customerName = input.readUTF();
+            int typeCode = input.readByte();
+            String title = input.readUTF();
+            return new RentalEvent(customerName, new Rental(movies.intern(MovieType.movieFor(typeCode, title)), input.readInt()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
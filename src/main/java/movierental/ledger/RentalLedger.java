@@ -0,0 +1,135 @@
+package movierental.ledger;
+
+import movierental.Customer;
+import movierental.Movie;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A ledger file written by {@link RentalLedgerWriter}, mapped read-only into memory. Opening reads
+ * only the header and the movie table; names and rentals are read from the mapping on demand, so
+ * customers are available right after a restart however many there are.
+ * <p>
+ * Customers are indexed in name order. Each customer is created on first lookup and the same
+ * instance is returned afterwards, so rentals added after opening, which are kept on the heap, stay
+ * with the customer; its statement renders the mapped records followed by those rentals.
+ * Lookups are thread-safe.
+ */
+public class RentalLedger {
+
+    private static final int NOT_FOUND = -1;
+
+    private final ByteBuffer buffer;
+    private final LedgerLayout layout;
+    private final Movie[] movies;
+    private final AtomicReferenceArray<Customer> customers;
+
+    private RentalLedger(ByteBuffer buffer) {
+        this.buffer = buffer;
+        checkHeader(buffer);
+        this.layout = new LedgerLayout(buffer.getInt(LedgerLayout.MOVIE_COUNT_POSITION),
+                getCustomerCount(),
+                buffer.getInt(LedgerLayout.RENTAL_COUNT_POSITION));
+        this.movies = readMovies();
+        this.customers = new AtomicReferenceArray<>(getCustomerCount());
+    }
+
+    public static RentalLedger open(Path path) {
+        try (FileChannel channel = FileChannel.open(path)) {
+            return new RentalLedger(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getCustomerCount() {
+        return buffer.getInt(LedgerLayout.CUSTOMER_COUNT_POSITION);
+    }
+
+    public Customer customerAt(int customerIndex) {
+        Objects.checkIndex(customerIndex, getCustomerCount());
+        Customer customer = customers.get(customerIndex);
+        if (customer == null) {
+            customers.compareAndSet(customerIndex, null, readCustomer(customerIndex));
+            customer = customers.get(customerIndex);
+        }
+        return customer;
+    }
+
+    public Optional<Customer> findCustomer(String name) {
+        int customerIndex = indexOf(name);
+        if (customerIndex == NOT_FOUND) {
+            return Optional.empty();
+        }
+        return Optional.of(customerAt(customerIndex));
+    }
+
+    Movie movieOfRental(int rentalIndex) {
+        return movies[buffer.getInt(layout.rentalRecord(rentalIndex))];
+    }
+
+    int daysRentedOfRental(int rentalIndex) {
+        return buffer.getInt(layout.rentalRecord(rentalIndex) + LedgerLayout.DAYS_RENTED_FIELD);
+    }
+
+    private int indexOf(String name) {
+        int low = 0;
+        int high = getCustomerCount() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = nameAt(middle).compareTo(name);
+            if (comparison == 0) {
+                return middle;
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private Customer readCustomer(int customerIndex) {
+        int record = layout.customerRecord(customerIndex);
+        return new Customer(nameAt(customerIndex), new LedgerRentalHistory(this,
+                buffer.getInt(record + LedgerLayout.FIRST_RENTAL_FIELD),
+                buffer.getInt(record + LedgerLayout.RENTAL_COUNT_FIELD)));
+    }
+
+    private String nameAt(int customerIndex) {
+        return stringAt(buffer.getInt(layout.customerRecord(customerIndex)));
+    }
+
+    private Movie[] readMovies() {
+        Movie[] result = new Movie[buffer.getInt(LedgerLayout.MOVIE_COUNT_POSITION)];
+        for (int movieIndex = 0; movieIndex < result.length; movieIndex++) {
+            int record = layout.movieRecord(movieIndex);
+            result[movieIndex] = MovieType.movieFor(buffer.getInt(record + LedgerLayout.MOVIE_TYPE_FIELD),
+                    stringAt(buffer.getInt(record)));
+        }
+        return result;
+    }
+
+    private String stringAt(int stringOffset) {
+        return StringTable.read(buffer, layout.string(stringOffset));
+    }
+
+    private static void checkHeader(ByteBuffer buffer) {
+        if (buffer.capacity() < LedgerLayout.HEADER_SIZE
+                || buffer.getInt(LedgerLayout.MAGIC_POSITION) != LedgerLayout.MAGIC) {
+            throw new IllegalArgumentException("Not a rental ledger");
+        }
+        if (buffer.getInt(LedgerLayout.FORMAT_VERSION_POSITION) != LedgerLayout.FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported rental ledger version: "
+                    + buffer.getInt(LedgerLayout.FORMAT_VERSION_POSITION));
+        }
+    }
+}
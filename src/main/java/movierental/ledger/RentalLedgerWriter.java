@@ -0,0 +1,132 @@
+package movierental.ledger;
+
+import movierental.Customer;
+import movierental.MovieCatalog;
+import movierental.Rental;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes customers and their rentals to a ledger file that {@link RentalLedger} can map back in.
+ * Customer names must be unique. The whole file is written through a single memory mapping, so a
+ * ledger is limited to 2 GB. The file is written next to the target and moved over it once it is
+ * on disk, so a crash leaves either the previous ledger or the complete new one. Not thread-safe.
+ */
+public class RentalLedgerWriter {
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Map<String, Customer> customersByName = new TreeMap<>();
+    private final MovieCatalog movies = new MovieCatalog();
+    private final StringTable strings = new StringTable();
+
+    public void add(Customer customer) {
+        if (customersByName.putIfAbsent(customer.getName(), customer) != null) {
+            throw new IllegalArgumentException("Duplicate customer in ledger: " + customer.getName());
+        }
+    }
+
+    public void writeTo(Path path) {
+        int rentalCount = registerMoviesAndStrings();
+        LedgerLayout layout = new LedgerLayout(movies.size(), customersByName.size(), rentalCount);
+        try {
+            Path temporary = Files.createTempFile(path.toAbsolutePath().getParent(),
+                    path.getFileName().toString(), TEMPORARY_SUFFIX);
+            try {
+                write(temporary, layout, rentalCount);
+                Files.move(temporary, path, ATOMIC_MOVE, REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Path temporary, LedgerLayout layout, int rentalCount) throws IOException {
+        try (FileChannel channel = FileChannel.open(temporary, READ, WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, layout.fileSize(strings.length()));
+            new Encoding(buffer, layout).write(rentalCount);
+            buffer.force();
+            channel.force(true);
+        }
+    }
+
+    private int registerMoviesAndStrings() {
+        int rentalCount = 0;
+        for (Customer customer : customersByName.values()) {
+            strings.offsetOf(customer.getName());
+            customer.getRentals().forEach(this::registerMovie);
+            rentalCount = Math.addExact(rentalCount, customer.getRentals().size());
+        }
+        return rentalCount;
+    }
+
+    private void registerMovie(Rental rental) {
+        MovieType.codeOf(rental.getMovie());
+        strings.offsetOf(rental.getMovieTitle());
+        movies.idOf(rental.getMovie());
+    }
+
+    private class Encoding {
+
+        private final MappedByteBuffer buffer;
+        private final LedgerLayout layout;
+        private int nextCustomer;
+        private int nextRental;
+
+        private Encoding(MappedByteBuffer buffer, LedgerLayout layout) {
+            this.buffer = buffer;
+            this.layout = layout;
+        }
+
+        private void write(int rentalCount) {
+            writeHeader(rentalCount);
+            writeMovies();
+            customersByName.values().forEach(this::writeCustomer);
+            strings.writeTo(buffer, layout.string(0));
+        }
+
+        private void writeHeader(int rentalCount) {
+            buffer.putInt(LedgerLayout.MAGIC_POSITION, LedgerLayout.MAGIC);
+            buffer.putInt(LedgerLayout.FORMAT_VERSION_POSITION, LedgerLayout.FORMAT_VERSION);
+            buffer.putInt(LedgerLayout.MOVIE_COUNT_POSITION, movies.size());
+            buffer.putInt(LedgerLayout.CUSTOMER_COUNT_POSITION, customersByName.size());
+            buffer.putInt(LedgerLayout.RENTAL_COUNT_POSITION, rentalCount);
+        }
+
+        private void writeMovies() {
+            for (int movieId = 0; movieId < movies.size(); movieId++) {
+                int record = layout.movieRecord(movieId);
+                buffer.putInt(record, strings.offsetOf(movies.movieWithId(movieId).getTitle()));
+                buffer.putInt(record + LedgerLayout.MOVIE_TYPE_FIELD, MovieType.codeOf(movies.movieWithId(movieId)));
+            }
+        }
+
+        private void writeCustomer(Customer customer) {
+            int record = layout.customerRecord(nextCustomer++);
+            buffer.putInt(record, strings.offsetOf(customer.getName()));
+            buffer.putInt(record + LedgerLayout.FIRST_RENTAL_FIELD, nextRental);
+            buffer.putInt(record + LedgerLayout.RENTAL_COUNT_FIELD, customer.getRentals().size());
+            customer.getRentals().forEach(this::writeRental);
+        }
+
+        private void writeRental(Rental rental) {
+            int record = layout.rentalRecord(nextRental++);
+            buffer.putInt(record, movies.idOf(rental.getMovie()));
+            buffer.putInt(record + LedgerLayout.DAYS_RENTED_FIELD, rental.getDaysRented());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package movierental.ledger;
+
+import movierental.Customer;
+import movierental.MovieCatalog;
+import movierental.Rental;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Write-ahead log of rentals added to customers. An append returns once its event is durable on
+ * disk. Appends from concurrent threads are gathered into commit batches that share one fsync, as
+ * set by a {@link GroupCommitPolicy}; a single committer thread writes and syncs each batch.
+ * <p>
+ * Opening a log replays its events into the customers they belong to, and cuts off a last event
+ * torn by a crash; damage followed by more data is refused rather than cut. Once a commit fails,
+ * the log is failed: the appends of that batch and every later append throw, so nothing is written
+ * after the partial frame the failure may have left. Appends are thread-safe; the customers passed
+ * to {@link #addRental} are not, so callers must not add rentals to one customer from several threads.
+ */
+public class RentalLog implements Closeable {
+
+    private final FileChannel channel;
+    private final GroupCommitPolicy policy;
+    private final Thread committer = new Thread(this::commitUntilClosed, "rental-log-committer");
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0);
+    private CommitBatch pending = new CommitBatch();
+    private boolean closed;
+    private Throwable failure;
+
+    private RentalLog(FileChannel channel, GroupCommitPolicy policy) {
+        this.channel = channel;
+        this.policy = policy;
+    }
+
+    /**
+     * Replays the log at the path, if any, adding every logged rental to the customer the function
+     * returns for its name, and opens the log for further appends. Fails with an
+     * {@link UncheckedIOException} when the log is damaged anywhere but in its last frame.
+     */
+    public static RentalLog open(Path path, GroupCommitPolicy policy, Function<String, Customer> customers) {
+        long intactLength = replay(path, customers);
+        try {
+            FileChannel channel = FileChannel.open(path, CREATE, WRITE);
+            channel.truncate(intactLength);
+            channel.position(intactLength);
+            return start(channel, policy);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static RentalLog start(FileChannel channel, GroupCommitPolicy policy) {
+        RentalLog log = new RentalLog(channel, policy);
+        log.committer.setDaemon(true);
+        log.committer.start();
+        return log;
+    }
+
+    /**
+     * Logs the rental durably, then adds it to the customer.
+     */
+    public void addRental(Customer customer, Rental rental) {
+        append(customer.getName(), rental);
+        customer.addRental(rental);
+    }
+
+    public void append(String customerName, Rental rental) {
+        enqueue(LogFrames.frame(new RentalEvent(customerName, rental).encode())).awaitCommit();
+    }
+
+    public LogStatistics statistics() {
+        return new LogStatistics(commits.sum(), events.sum(),
+                Duration.ofNanos(totalLatencyNanos.sum()), Duration.ofNanos(maxLatencyNanos.get()));
+    }
+
+    /**
+     * Commits the appends already made, then closes the log file.
+     */
+    @Override
+    public void close() {
+        if (markClosed()) {
+            awaitCommitter();
+            closeChannel();
+        }
+    }
+
+    private static long replay(Path path, Function<String, Customer> customers) {
+        if (Files.notExists(path)) {
+            return 0;
+        }
+        MovieCatalog movies = new MovieCatalog();
+        return LogFrames.readAll(path, RentalEvent.MAX_ENCODED_SIZE, payload -> {
+            RentalEvent event = RentalEvent.decode(payload, movies);
+            customers.apply(event.getCustomerName()).addRental(event.getRental());
+        });
+    }
+
+    private synchronized CommitBatch enqueue(byte[] frame) {
+        if (closed) {
+            throw new IllegalStateException("Rental log is closed");
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Rental log failed to commit", failure);
+        }
+        pending.add(frame, System.nanoTime());
+        if (pending.size() == 1 || pending.size() >= policy.getMaxBatchSize()) {
+            notifyAll();
+        }
+        return pending;
+    }
+
+    private void commitUntilClosed() {
+        for (CommitBatch batch = nextBatch(); batch != null; batch = nextBatch()) {
+            commit(batch);
+        }
+    }
+
+    /**
+     * Waits for a batch to fill or for its commit window to pass, and takes it from appenders.
+     * Returns null once the log is closed and every append has been taken, or once it has failed.
+     */
+    private synchronized CommitBatch nextBatch() {
+        while (pending.isEmpty() && !closed && failure == null) {
+            waitNanos(Long.MAX_VALUE);
+        }
+        if (pending.isEmpty()) {
+            return null;
+        }
+        awaitCommitWindow();
+        CommitBatch batch = pending;
+        pending = new CommitBatch();
+        return batch;
+    }
+
+    private void awaitCommitWindow() {
+        long deadline = pending.getFirstAppendNanos() + policy.getCommitWindow().toNanos();
+        long remaining = deadline - System.nanoTime();
+        while (remaining > 0 && pending.size() < policy.getMaxBatchSize() && !closed) {
+            waitNanos(remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Only the committer thread waits, and the log never interrupts it, so an interrupt merely ends
+     * the wait early; callers wait in loops that re-check their condition.
+     */
+    private void waitNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        } catch (InterruptedException e) {
+            return;
+        }
+    }
+
+    private void commit(CommitBatch batch) {
+        try {
+            ByteBuffer frames = batch.contents();
+            while (frames.hasRemaining()) {
+                channel.write(frames);
+            }
+            channel.force(false);
+            recordCommit(batch, System.nanoTime());
+            batch.markCommitted();
+        } catch (IOException | RuntimeException e) {
+            batch.markFailed(e);
+            fail(e);
+        }
+    }
+
+    /**
+     * Fails the appends waiting for the next batch and rejects later ones, because a failed write
+     * may have left a partial frame that later frames must not follow.
+     */
+    private synchronized void fail(Exception cause) {
+        failure = cause;
+        pending.markFailed(cause);
+        pending = new CommitBatch();
+        notifyAll();
+    }
+
+    private void recordCommit(CommitBatch batch, long commitNanos) {
+        commits.increment();
+        events.add(batch.size());
+        totalLatencyNanos.add(batch.totalLatencyNanos(commitNanos));
+        maxLatencyNanos.accumulate(commitNanos - batch.getFirstAppendNanos());
+    }
+
+    private synchronized boolean markClosed() {
+        boolean wasOpen = !closed;
+        closed = true;
+        notifyAll();
+        return wasOpen;
+    }
+
+    private void awaitCommitter() {
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
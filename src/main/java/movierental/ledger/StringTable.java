@@ -0,0 +1,45 @@
+package movierental.ledger;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects the distinct names and titles of a ledger as length-prefixed UTF-8 strings, so that
+ * every repeated title is stored once.
+ */
+class StringTable {
+
+    private static final int LENGTH_PREFIX_SIZE = 4;
+
+    private final Map<String, Integer> offsetsByString = new HashMap<>();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    int offsetOf(String text) {
+        return offsetsByString.computeIfAbsent(text, this::append);
+    }
+
+    int length() {
+        return bytes.size();
+    }
+
+    void writeTo(ByteBuffer buffer, int position) {
+        buffer.duplicate().position(position).put(bytes.toByteArray());
+    }
+
+    static String read(ByteBuffer buffer, int position) {
+        byte[] encoded = new byte[buffer.getInt(position)];
+        buffer.duplicate().position(position + LENGTH_PREFIX_SIZE).get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    private int append(String text) {
+        int offset = bytes.size();
+        byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        bytes.writeBytes(ByteBuffer.allocate(LENGTH_PREFIX_SIZE).putInt(encoded.length).array());
+        bytes.writeBytes(encoded);
+        return offset;
+    }
+}
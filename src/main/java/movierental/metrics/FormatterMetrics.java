@@ -0,0 +1,37 @@
+package movierental.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statement counters and distributions of one formatter class.
+ */
+public final class FormatterMetrics {
+
+    private final String formatterName;
+    private final LongAdder lines = new LongAdder();
+    private final LogHistogram latencyNanos = new LogHistogram();
+    private final LogHistogram sizes = new LogHistogram();
+
+    FormatterMetrics(String formatterName) {
+        this.formatterName = formatterName;
+    }
+
+    /**
+     * Records one rendered statement; the size is in characters or bytes, depending on the output.
+     */
+    public void record(long latencyNanos, int lineCount, long size) {
+        lines.add(lineCount);
+        this.latencyNanos.record(latencyNanos);
+        sizes.record(size);
+    }
+
+    FormatterSnapshot snapshot() {
+        return new FormatterSnapshot(formatterName, lines.sum(), latencyNanos.snapshot(), sizes.snapshot());
+    }
+
+    void reset() {
+        lines.reset();
+        latencyNanos.reset();
+        sizes.reset();
+    }
+}
@@ -0,0 +1,45 @@
+package movierental.metrics;
+
+/**
+ * What one formatter class rendered since the metrics were enabled or last reset.
+ */
+public class FormatterSnapshot {
+
+    private final String formatterName;
+    private final long lineCount;
+    private final HistogramSnapshot latencyNanos;
+    private final HistogramSnapshot sizes;
+
+    public FormatterSnapshot(String formatterName, long lineCount, HistogramSnapshot latencyNanos, HistogramSnapshot sizes) {
+        this.formatterName = formatterName;
+        this.lineCount = lineCount;
+        this.latencyNanos = latencyNanos;
+        this.sizes = sizes;
+    }
+
+    public String getFormatterName() {
+        return formatterName;
+    }
+
+    public long getStatementCount() {
+        return latencyNanos.getCount();
+    }
+
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    public HistogramSnapshot getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public HistogramSnapshot getSizes() {
+        return sizes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d statements, %d lines%n  latency ns: %s%n  size: %s",
+                formatterName, getStatementCount(), lineCount, latencyNanos, sizes);
+    }
+}
@@ -0,0 +1,68 @@
+package movierental.metrics;
+
+/**
+ * The counts of a {@link LogHistogram} at one moment. Percentiles are reported as the upper bound
+ * of the bucket they fall into, capped at the largest recorded value.
+ */
+public class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long sum, long max) {
+        this.counts = counts;
+        this.count = totalOf(counts);
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        if (count == 0) {
+            return 0;
+        }
+        return (double) sum / count;
+    }
+
+    /**
+     * Returns a value that at least the given fraction of the recorded values do not exceed.
+     */
+    public long percentile(double fraction) {
+        long rank = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank && seen > 0) {
+                return Math.min(LogHistogram.upperBoundOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1f p50<=%d p90<=%d p99<=%d max=%d",
+                count, getMean(), percentile(0.5), percentile(0.9), percentile(0.99), max);
+    }
+
+    private static long totalOf(long[] counts) {
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        return total;
+    }
+}
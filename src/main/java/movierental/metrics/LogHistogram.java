@@ -0,0 +1,57 @@
+package movierental.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values in power-of-two buckets: bucket 0 counts zeros and
+ * bucket {@code i} counts values from {@code 2^(i-1)} to {@code 2^i - 1}. Recording is a bucket
+ * increment plus striped sum and maximum updates, so it stays cheap under contention, at the price
+ * of percentiles that are only known to within a factor of two.
+ */
+public final class LogHistogram {
+
+    static final int BUCKET_COUNT = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value; negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long recorded = Math.max(value, 0);
+        buckets.incrementAndGet(bucketOf(recorded));
+        sum.add(recorded);
+        max.accumulate(recorded);
+    }
+
+    /**
+     * Copies the current counts. Values recorded while copying may be partly included.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] = buckets.get(bucket);
+        }
+        return new HistogramSnapshot(counts, sum.sum(), max.get());
+    }
+
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            buckets.set(bucket, 0);
+        }
+        sum.reset();
+        max.reset();
+    }
+
+    static int bucketOf(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    static long upperBoundOf(int bucket) {
+        return (1L << bucket) - 1;
+    }
+}
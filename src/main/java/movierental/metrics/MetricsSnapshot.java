@@ -0,0 +1,43 @@
+package movierental.metrics;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The metrics of every formatter that has rendered a statement since the last reset, ordered by
+ * formatter name.
+ */
+public class MetricsSnapshot {
+
+    private final List<FormatterSnapshot> formatters;
+
+    public MetricsSnapshot(List<FormatterSnapshot> formatters) {
+        this.formatters = List.copyOf(formatters);
+    }
+
+    public List<FormatterSnapshot> getFormatters() {
+        return formatters;
+    }
+
+    public long getStatementCount() {
+        return formatters.stream().mapToLong(FormatterSnapshot::getStatementCount).sum();
+    }
+
+    public long getLineCount() {
+        return formatters.stream().mapToLong(FormatterSnapshot::getLineCount).sum();
+    }
+
+    /**
+     * Renders one block per formatter, for logs and the JMX text attribute.
+     */
+    public String toText() {
+        return formatters.stream()
+                .map(FormatterSnapshot::toString)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
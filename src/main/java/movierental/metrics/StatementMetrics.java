@@ -0,0 +1,90 @@
+package movierental.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Process-wide latency, line and size metrics of rendered statements, kept per formatter class.
+ * Disabled by default; while disabled, formatters check one volatile flag per statement and
+ * record nothing, so the metrics can stay compiled in and be switched on in production, also
+ * through JMX.
+ */
+public final class StatementMetrics implements StatementMetricsMXBean {
+
+    public static final String OBJECT_NAME = "movierental:type=StatementMetrics";
+
+    private static final StatementMetrics INSTANCE = new StatementMetrics();
+
+    private final ConcurrentMap<Class<?>, FormatterMetrics> formatters = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    private StatementMetrics() {
+    }
+
+    public static StatementMetrics get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public FormatterMetrics forFormatter(Class<?> formatterType) {
+        FormatterMetrics metrics = formatters.get(formatterType);
+        if (metrics != null) {
+            return metrics;
+        }
+        return formatters.computeIfAbsent(formatterType, type -> new FormatterMetrics(type.getSimpleName()));
+    }
+
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(formatters.values().stream()
+                .map(FormatterMetrics::snapshot)
+                .filter(formatter -> formatter.getStatementCount() > 0)
+                .sorted(Comparator.comparing(FormatterSnapshot::getFormatterName))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public long getStatementCount() {
+        return snapshot().getStatementCount();
+    }
+
+    @Override
+    public long getLineCount() {
+        return snapshot().getLineCount();
+    }
+
+    @Override
+    public String getTextSnapshot() {
+        return snapshot().toText();
+    }
+
+    @Override
+    public void reset() {
+        formatters.values().forEach(FormatterMetrics::reset);
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, unless they are registered already.
+     */
+    public void registerMBean() throws JMException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // registered by an earlier call
+        }
+    }
+}
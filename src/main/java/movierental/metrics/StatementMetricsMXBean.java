@@ -0,0 +1,19 @@
+package movierental.metrics;
+
+/**
+ * The JMX view of {@link StatementMetrics}, registered as {@value StatementMetrics#OBJECT_NAME}.
+ */
+public interface StatementMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getStatementCount();
+
+    long getLineCount();
+
+    String getTextSnapshot();
+
+    void reset();
+}
@@ -1,38 +1,41 @@
 package movierental.movietypes;
 
+import movierental.ChargeTable;
+import movierental.Money;
 import movierental.Movie;
+import movierental.PriceCode;
 
 public class ChildrensMovie extends Movie {
     
-    private static final double BASE_CHARGE = 1.5;
-    private static final double EXTRA_CHARGE_PER_DAY = 1.5;
+    private static final Money BASE_CHARGE = Money.ofMinorUnits(150);
+    private static final Money EXTRA_CHARGE_PER_DAY = Money.ofMinorUnits(150);
     private static final int BASE_PERIOD = 3;
+    private static final PriceCode PRICE_CODE = PriceCode.withoutBonus(ChargeTable.precompute(ChildrensMovie::calculateFormulaCharge));
 
     public ChildrensMovie(String title) {
-        super(title);
+        super(title, PRICE_CODE);
     }
     
-    @Override
-    public double getCharge(int daysRented) {
+    private static Money calculateFormulaCharge(int daysRented) {
         if (exceedsBasePeriod(daysRented)) {
             return calculateExtendedRentalCharge(daysRented);
         }
         return BASE_CHARGE;
     }
 
-    private double calculateExtendedRentalCharge(int daysRented) {
-        return BASE_CHARGE + extraCharge(daysRented);
+    private static Money calculateExtendedRentalCharge(int daysRented) {
+        return BASE_CHARGE.plus(extraCharge(daysRented));
     }
 
-    private double extraCharge(int daysRented) {
-        return countExtraDays(daysRented) * EXTRA_CHARGE_PER_DAY;
+    private static Money extraCharge(int daysRented) {
+        return EXTRA_CHARGE_PER_DAY.times(countExtraDays(daysRented));
     }
 
-    private int countExtraDays(int daysRented) {
+    private static int countExtraDays(int daysRented) {
         return daysRented - BASE_PERIOD;
     }
 
-    private boolean exceedsBasePeriod(int daysRented) {
+    private static boolean exceedsBasePeriod(int daysRented) {
         return daysRented > BASE_PERIOD;
     }
 }
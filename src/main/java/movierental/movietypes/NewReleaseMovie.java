@@ -1,17 +1,22 @@
 package movierental.movietypes;
 
+import movierental.ChargeTable;
+import movierental.Money;
 import movierental.Movie;
+import movierental.PriceCode;
 
 public class NewReleaseMovie extends Movie {
     
-    private static final double CHARGE_PER_DAY = 3.0;
+    private static final Money CHARGE_PER_DAY = Money.ofMinorUnits(300);
+    private static final int BASE_THRESHOLD_DAYS = 1;
+    private static final PriceCode PRICE_CODE = PriceCode.withBonusAfter(
+            ChargeTable.precompute(NewReleaseMovie::calculateFormulaCharge), BASE_THRESHOLD_DAYS);
     
     public NewReleaseMovie(String title) {
-        super(title);
+        super(title, PRICE_CODE);
     }
-    
-    @Override
-    public double getCharge(int daysRented) {
-        return daysRented * CHARGE_PER_DAY;
+
+    private static Money calculateFormulaCharge(int daysRented) {
+        return CHARGE_PER_DAY.times(daysRented);
     }
 }
@@ -0,0 +1,118 @@
+package movierental.registry;
+
+import movierental.Customer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Customers by name, split over independently locked shards that each keep a compact
+ * open-addressing index. Lookups take no lock; registrations lock only the shard of the name.
+ * Names are unique: registering a name that is already taken returns the registered customer.
+ * <p>
+ * {@link #customers()} streams the registry shard by shard, so a parallel stream splits along
+ * shards. A batch statement run does not: it pulls customers one at a time through the stream's
+ * iterator and gets its parallelism from its executor. Streams are weakly consistent: they may or
+ * may not include customers registered while they run.
+ */
+public class CustomerRegistry {
+
+    private static final int SHARDS_PER_PROCESSOR = 4;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private final RegistryShard[] shards;
+
+    public CustomerRegistry() {
+        this(Runtime.getRuntime().availableProcessors() * SHARDS_PER_PROCESSOR);
+    }
+
+    public CustomerRegistry(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        shards = new RegistryShard[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards[shard] = new RegistryShard();
+        }
+    }
+
+    public Optional<Customer> find(String name) {
+        int hash = hashOf(name);
+        return Optional.ofNullable(shardFor(hash).find(name, hash));
+    }
+
+    /**
+     * Registers the customer unless its name is taken, and returns the customer registered under
+     * the name.
+     */
+    public Customer register(Customer customer) {
+        int hash = hashOf(customer.getName());
+        return shardFor(hash).putIfAbsent(customer, hash);
+    }
+
+    public Customer getOrCreate(String name) {
+        int hash = hashOf(name);
+        return shardFor(hash).computeIfAbsent(name, hash, Customer::new);
+    }
+
+    /**
+     * Registers many customers at once, sizing each shard's index once and loading shards in
+     * parallel. Customers whose names are taken are skipped.
+     */
+    public void bulkLoad(Collection<Customer> customers) {
+        List<List<Customer>> customersByShard = partitionByShard(customers);
+        IntStream.range(0, shards.length).parallel()
+                .forEach(shard -> shards[shard].putAllAbsent(customersByShard.get(shard), this::hashOf));
+    }
+
+    public int size() {
+        int size = 0;
+        for (RegistryShard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public Stream<Customer> customers() {
+        return IntStream.range(0, shards.length).boxed().flatMap(shard -> shards[shard].customers());
+    }
+
+    private List<List<Customer>> partitionByShard(Collection<Customer> customers) {
+        List<List<Customer>> customersByShard = new ArrayList<>(shards.length);
+        for (int shard = 0; shard < shards.length; shard++) {
+            customersByShard.add(new ArrayList<>());
+        }
+        for (Customer customer : customers) {
+            customersByShard.get(shardIndexOf(hashOf(customer))).add(customer);
+        }
+        return customersByShard;
+    }
+
+    private RegistryShard shardFor(int hash) {
+        return shards[shardIndexOf(hash)];
+    }
+
+    /**
+     * Picks the shard from the high bits of the hash, leaving the low bits to the shard's index.
+     */
+    private int shardIndexOf(int hash) {
+        return (int) (((hash & 0xFFFFFFFFL) * shards.length) >>> 32);
+    }
+
+    private int hashOf(Customer customer) {
+        return hashOf(customer.getName());
+    }
+
+    private int hashOf(String name) {
+        int hash = name.hashCode() * GOLDEN_RATIO;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,64 @@
+package movierental.registry;
+
+import movierental.Customer;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * One independently locked part of a {@link CustomerRegistry}. Writers take the shard's lock;
+ * readers read the current table without locking. A table that runs full is replaced by a larger
+ * copy, so readers of the old table still see a complete index.
+ */
+class RegistryShard {
+
+    private volatile RegistryTable table = RegistryTable.forSize(0);
+
+    Customer find(String name, int hash) {
+        return table.find(name, hash);
+    }
+
+    synchronized Customer putIfAbsent(Customer customer, int hash) {
+        return computeIfAbsent(customer.getName(), hash, name -> customer);
+    }
+
+    synchronized Customer computeIfAbsent(String name, int hash, Function<String, Customer> factory) {
+        Customer existing = table.find(name, hash);
+        if (existing != null) {
+            return existing;
+        }
+        Customer created = factory.apply(name);
+        ensureCapacity(1);
+        table.insert(created, hash);
+        return created;
+    }
+
+    /**
+     * Adds the customers whose names are not registered yet, resizing the table at most once.
+     */
+    synchronized void putAllAbsent(List<Customer> customers, ToIntFunction<Customer> hashes) {
+        ensureCapacity(customers.size());
+        for (Customer customer : customers) {
+            int hash = hashes.applyAsInt(customer);
+            if (table.find(customer.getName(), hash) == null) {
+                table.insert(customer, hash);
+            }
+        }
+    }
+
+    int size() {
+        return table.size();
+    }
+
+    Stream<Customer> customers() {
+        return table.customers();
+    }
+
+    private void ensureCapacity(int additional) {
+        if (!table.canHold(additional)) {
+            table = table.resizedFor(additional);
+        }
+    }
+}
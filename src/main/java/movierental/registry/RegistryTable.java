@@ -0,0 +1,88 @@
+package movierental.registry;
+
+import movierental.Customer;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Open-addressing index of customers by name with linear probing, stored as parallel arrays of name
+ * hashes and customers. Written by one thread at a time; each insert is published through the
+ * volatile size, so readers that read the size first see every insert it counts.
+ */
+class RegistryTable {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_LOAD_PERCENT = 75;
+
+    private final int[] hashes;
+    private final Customer[] customers;
+    private final int mask;
+    private volatile int size;
+
+    RegistryTable(int capacity) {
+        hashes = new int[capacity];
+        customers = new Customer[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Smallest table that holds the given number of customers within its load limit.
+     */
+    static RegistryTable forSize(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (!holds(capacity, expectedSize)) {
+            capacity <<= 1;
+        }
+        return new RegistryTable(capacity);
+    }
+
+    Customer find(String name, int hash) {
+        if (size == 0) {
+            return null;
+        }
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            Customer customer = customers[slot];
+            if (customer == null || hashes[slot] == hash && customer.getName().equals(name)) {
+                return customer;
+            }
+        }
+    }
+
+    void insert(Customer customer, int hash) {
+        int slot = hash & mask;
+        while (customers[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        customers[slot] = customer;
+        size = size + 1;
+    }
+
+    boolean canHold(int additional) {
+        return holds(customers.length, size + additional);
+    }
+
+    RegistryTable resizedFor(int additional) {
+        RegistryTable resized = forSize(size + additional);
+        for (int slot = 0; slot < customers.length; slot++) {
+            if (customers[slot] != null) {
+                resized.insert(customers[slot], hashes[slot]);
+            }
+        }
+        return resized;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Stream<Customer> customers() {
+        return Arrays.stream(customers).filter(Objects::nonNull);
+    }
+
+    private static boolean holds(int capacity, int customerCount) {
+        return (long) customerCount * 100 <= (long) capacity * MAX_LOAD_PERCENT;
+    }
+}
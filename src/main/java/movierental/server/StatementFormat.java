@@ -0,0 +1,61 @@
+package movierental.server;
+
+import movierental.RentalStatementFormatter;
+import movierental.formatters.HtmlStatementFormatter;
+import movierental.formatters.TextStatementFormatter;
+
+import java.util.Optional;
+
+/**
+ * The statement formats the service offers, chosen by the {@code format} query parameter.
+ * Formatters keep no state between statements, so one instance serves all requests.
+ */
+enum StatementFormat {
+
+    TEXT("text", "text/plain; charset=utf-8", new TextStatementFormatter()),
+    HTML("html", "text/html; charset=utf-8", new HtmlStatementFormatter());
+
+    private static final String FORMAT_PARAMETER = "format=";
+
+    private final String name;
+    private final String contentType;
+    private final RentalStatementFormatter formatter;
+
+    StatementFormat(String name, String contentType, RentalStatementFormatter formatter) {
+        this.name = name;
+        this.contentType = contentType;
+        this.formatter = formatter;
+    }
+
+    /**
+     * The format named by the query, text when the query names none, or empty for an unknown name.
+     */
+    static Optional<StatementFormat> fromQuery(String query) {
+        if (query == null) {
+            return Optional.of(TEXT);
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(FORMAT_PARAMETER)) {
+                return named(parameter.substring(FORMAT_PARAMETER.length()));
+            }
+        }
+        return Optional.of(TEXT);
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    RentalStatementFormatter getFormatter() {
+        return formatter;
+    }
+
+    private static Optional<StatementFormat> named(String name) {
+        for (StatementFormat format : values()) {
+            if (format.name.equals(name)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
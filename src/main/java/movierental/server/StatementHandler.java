@@ -0,0 +1,73 @@
+package movierental.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import movierental.Customer;
+import movierental.registry.CustomerRegistry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Serves {@code GET /statements/<customer name>?format=text|html}. The statement is streamed into
+ * a chunked response as it renders, so no request holds a whole statement in memory.
+ */
+class StatementHandler implements HttpHandler {
+
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int CHUNKED = 0;
+    private static final int NO_BODY = -1;
+
+    private final CustomerRegistry customers;
+
+    StatementHandler(CustomerRegistry customers) {
+        this.customers = customers;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            respond(exchange);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(METHOD_NOT_ALLOWED, NO_BODY);
+            return;
+        }
+        Optional<StatementFormat> format = StatementFormat.fromQuery(exchange.getRequestURI().getRawQuery());
+        if (format.isEmpty()) {
+            exchange.sendResponseHeaders(BAD_REQUEST, NO_BODY);
+            return;
+        }
+        Optional<Customer> customer = customers.find(customerName(exchange));
+        if (customer.isEmpty()) {
+            exchange.sendResponseHeaders(NOT_FOUND, NO_BODY);
+            return;
+        }
+        streamStatement(exchange, customer.get(), format.get());
+    }
+
+    private void streamStatement(HttpExchange exchange, Customer customer, StatementFormat format) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", format.getContentType());
+        exchange.sendResponseHeaders(OK, CHUNKED);
+        Writer body = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+        customer.generateStatement(format.getFormatter(), body);
+        body.flush();
+    }
+
+    private static String customerName(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        return path.substring(exchange.getHttpContext().getPath().length());
+    }
+}
@@ -0,0 +1,56 @@
+package movierental.server;
+
+import com.sun.net.httpserver.HttpServer;
+import movierental.registry.CustomerRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+
+/**
+ * Embedded HTTP service that renders the statements of the customers in a registry, on the JDK's
+ * built-in server. Connections are kept alive between requests. Requests are handled on the given
+ * executor; on a JDK with virtual threads, a virtual-thread-per-task executor lets every open
+ * connection block on its own thread cheaply.
+ * <p>
+ * Start latency-sensitive deployments with {@code -Dsun.net.httpserver.nodelay=true}, which switches
+ * the JDK server to TCP_NODELAY: a response leaves in several small writes, and Nagle's algorithm
+ * would hold the last of them until the client's delayed acknowledgement, adding tens of
+ * milliseconds to every request. The JDK reads the flag once, when its server is first used, so it
+ * must be given at startup.
+ */
+public class StatementServer {
+
+    public static final String STATEMENTS_PATH = "/statements/";
+
+    private static final int BACKLOG = 4096;
+    private static final int STOP_IMMEDIATELY = 0;
+
+    private final HttpServer server;
+
+    public StatementServer(InetSocketAddress address, CustomerRegistry customers, Executor executor) {
+        try {
+            server = HttpServer.create(address, BACKLOG);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext(STATEMENTS_PATH, new StatementHandler(customers));
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Closes the listening socket and all connections, without waiting for exchanges in progress.
+     */
+    public void stop() {
+        server.stop(STOP_IMMEDIATELY);
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+}
@@ -0,0 +1,77 @@
+package movierental;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.*;
+
+public class ChargeTableTest {
+
+    private static final IntFunction<Money> ONE_UNIT_PER_DAY = Money::ofMinorUnits;
+
+    @Test
+    @DisplayName("Precomputed charges should equal the pricing formula inside the table")
+    public void testPrecomputedChargesMatchFormula() {
+        ChargeTable table = ChargeTable.precompute(ONE_UNIT_PER_DAY, 30);
+
+        assertEquals(Money.ofMinorUnits(0), table.chargeFor(0));
+        assertEquals(Money.ofMinorUnits(30), table.chargeFor(30));
+    }
+
+    @Test
+    @DisplayName("Durations outside the table should fall back to the pricing formula")
+    public void testFallsBackToFormulaOutsideTable() {
+        ChargeTable table = ChargeTable.precompute(ONE_UNIT_PER_DAY, 30);
+
+        assertEquals(Money.ofMinorUnits(31), table.chargeFor(31));
+        assertEquals(Money.ofMinorUnits(-1), table.chargeFor(-1));
+    }
+
+    @Test
+    @DisplayName("Precomputed charges should be looked up instead of recalculated")
+    public void testPrecomputedChargesAreNotRecalculated() {
+        int[] calculations = new int[1];
+        ChargeTable table = ChargeTable.precompute(days -> {
+            calculations[0]++;
+            return Money.ZERO;
+        }, 2);
+
+        table.chargeFor(1);
+        table.chargeFor(2);
+
+        assertEquals(3, calculations[0]);
+    }
+
+    @Test
+    @DisplayName("Formula only table should always apply the pricing formula")
+    public void testFormulaOnlyTable() {
+        ChargeTable table = ChargeTable.formulaOnly(ONE_UNIT_PER_DAY);
+
+        assertEquals(Money.ofMinorUnits(5), table.chargeFor(5));
+    }
+
+    @Test
+    @DisplayName("Precomputing more days than the upper bound should be rejected")
+    public void testRejectsTooManyDays() {
+        IllegalArgumentException rejected = assertThrows(IllegalArgumentException.class,
+                () -> ChargeTable.precompute(ONE_UNIT_PER_DAY, Integer.MAX_VALUE));
+
+        assertTrue(rejected.getMessage().contains(String.valueOf(ChargeTable.MAX_PRECOMPUTED_DAYS)));
+    }
+
+    @Test
+    @DisplayName("A configured maximum above the upper bound should fail naming the property")
+    public void testRejectsConfiguredMaxDaysAboveBound() {
+        System.setProperty(ChargeTable.MAX_DAYS_PROPERTY, String.valueOf(ChargeTable.MAX_PRECOMPUTED_DAYS + 1));
+        try {
+            IllegalStateException rejected = assertThrows(IllegalStateException.class,
+                    () -> ChargeTable.precompute(ONE_UNIT_PER_DAY));
+
+            assertTrue(rejected.getMessage().contains(ChargeTable.MAX_DAYS_PROPERTY));
+        } finally {
+            System.clearProperty(ChargeTable.MAX_DAYS_PROPERTY);
+        }
+    }
+}
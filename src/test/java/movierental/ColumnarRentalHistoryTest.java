@@ -0,0 +1,85 @@
+package movierental;
+
+import movierental.formatters.HtmlStatementFormatter;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ColumnarRentalHistoryTest {
+
+    private final MovieCatalog catalog = new MovieCatalog();
+    private final ColumnarRentalHistory history = new ColumnarRentalHistory(catalog);
+
+    @Test
+    @DisplayName("New columnar history should be empty")
+    public void testNewHistoryIsEmpty() {
+        assertTrue(history.isEmpty());
+        assertTrue(history.asRentals().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Columnar history should produce statement lines in rental order")
+    public void testProducesLinesInOrder() {
+        history.add(new Rental(new RegularMovie("First"), 3));
+        history.add(new Rental(new NewReleaseMovie("Second"), 2));
+        List<StatementLine> lines = new ArrayList<>();
+
+        history.forEachLine(lines::add);
+
+        assertEquals("First", lines.get(0).getMovieTitle());
+        assertEquals(Money.ofMinorUnits(600), lines.get(1).getCharge());
+        assertEquals(2, lines.get(1).getFrequentRenterPoints());
+    }
+
+    @Test
+    @DisplayName("Columnar history should share catalog entries between rentals of the same movie")
+    public void testSharesCatalogEntries() {
+        Movie movie = new ChildrensMovie("Frozen");
+
+        for (int index = 0; index < 40; index++) {
+            history.add(new Rental(movie, index));
+        }
+
+        assertEquals(1, catalog.size());
+        assertEquals(40, history.asRentals().size());
+    }
+
+    @Test
+    @DisplayName("Customers with columnar and list histories should get identical statements")
+    public void testStatementsMatchListHistory() {
+        Customer columnar = new Customer("Heavy", history);
+        Customer listed = new Customer("Heavy");
+        for (int index = 0; index < 50; index++) {
+            Rental rental = new Rental(new NewReleaseMovie("Movie " + index % 5), index % 9);
+            columnar.addRental(rental);
+            listed.addRental(rental);
+        }
+
+        assertEquals(listed.generateStatement(new TextStatementFormatter()), columnar.generateStatement(new TextStatementFormatter()));
+        assertEquals(listed.generateStatement(new HtmlStatementFormatter()), columnar.generateStatement(new HtmlStatementFormatter()));
+    }
+
+    @Test
+    @DisplayName("Rentals added by catalog id should resolve to the catalog's movie")
+    public void testAddsRentalByMovieId() {
+        int movieId = catalog.idOf(new RegularMovie("By Id"));
+
+        history.add(movieId, 4);
+
+        assertEquals("By Id", history.asRentals().get(0).getMovieTitle());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @DisplayName("Rental view should be read-only")
+    public void testRentalViewIsReadOnly() {
+        history.asRentals().add(new Rental(new RegularMovie("Sneaky"), 1));
+    }
+}
@@ -0,0 +1,102 @@
+package movierental;
+
+import movierental.formatters.HtmlStatementFormatter;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentRentalHistoryTest {
+
+    private final ConcurrentRentalHistory history = new ConcurrentRentalHistory();
+
+    @Test
+    @DisplayName("Concurrent history should keep rentals in the order they were added across chunks")
+    public void testKeepsOrderAcrossChunks() {
+        for (int index = 0; index < 5000; index++) {
+            history.add(new Rental(new RegularMovie("Movie " + index), index));
+        }
+
+        assertEquals(5000, history.asRentals().size());
+        assertEquals("Movie 4321", history.asRentals().get(4321).getMovieTitle());
+    }
+
+    @Test
+    @DisplayName("Snapshot should not show rentals added after it was taken")
+    public void testSnapshotIsStable() {
+        history.add(new Rental(new RegularMovie("First"), 1));
+        RentalHistory snapshot = history.snapshot();
+
+        history.add(new Rental(new RegularMovie("Second"), 1));
+
+        assertEquals(1, snapshot.asRentals().size());
+        assertEquals(2, history.asRentals().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @DisplayName("Snapshot should reject new rentals")
+    public void testSnapshotIsReadOnly() {
+        history.snapshot().add(new Rental(new RegularMovie("First"), 1));
+    }
+
+    @Test
+    @DisplayName("Customers with concurrent and list histories should get identical statements")
+    public void testStatementsMatchListHistory() {
+        Customer concurrent = new Customer("Heavy", history);
+        Customer listed = new Customer("Heavy");
+        for (int index = 0; index < 50; index++) {
+            Rental rental = new Rental(index % 2 == 0 ? new ChildrensMovie("Child " + index) : new NewReleaseMovie("New " + index), index);
+            concurrent.addRental(rental);
+            listed.addRental(rental);
+        }
+
+        assertEquals(listed.generateStatement(new HtmlStatementFormatter()), concurrent.generateStatement(new HtmlStatementFormatter()));
+        assertEquals(listed.generateSummary(new TextStatementFormatter()), concurrent.generateSummary(new TextStatementFormatter()));
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Rentals added from several threads while statements render should all be kept")
+    public void testConcurrentAddsWhileRendering() throws Exception {
+        Customer customer = new Customer("Shared", history);
+        ExecutorService threads = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                writers.add(threads.submit(() -> addRentals(customer, 2000)));
+            }
+            Future<?> reader = threads.submit(() -> renderUntilDone(customer, writers));
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            reader.get();
+        } finally {
+            threads.shutdown();
+        }
+
+        assertEquals(8000, customer.getRentals().size());
+        assertEquals(8000, customer.getRentalCount(RegularMovie.class));
+    }
+
+    private void addRentals(Customer customer, int count) {
+        for (int index = 0; index < count; index++) {
+            customer.addRental(new Rental(new RegularMovie("Movie " + index), 1));
+        }
+    }
+
+    private void renderUntilDone(Customer customer, List<Future<?>> writers) {
+        while (!writers.stream().allMatch(Future::isDone)) {
+            String statement = customer.generateStatement(new TextStatementFormatter());
+            assertTrue(statement.startsWith("Rental Record for Shared"));
+        }
+    }
+}
@@ -8,6 +8,9 @@ import movierental.movietypes.*;
 import org.junit.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.io.StringWriter;
+import java.util.List;
+
 public class CustomerTest {
 
     @Test
@@ -542,8 +545,8 @@ public class CustomerTest {
         
         String statement = customer.generateStatement(new HtmlStatementFormatter());
         
-        // Name should be in emphasized tag
-        assertTrue(statement.contains("<em>Test & User <Name></em>"));
+        // Name should be escaped inside the emphasized tag
+        assertTrue(statement.contains("<em>Test &amp; User &lt;Name&gt;</em>"));
     }
     
     @Test
@@ -658,4 +661,71 @@ public class CustomerTest {
         assertTrue(statement2.contains("Movie B"));
         assertFalse(statement2.contains("Movie A"));
     }
+
+    @Test
+    @DisplayName("Streamed statement should be identical to the returned statement")
+    public void testStreamedStatementMatchesReturnedStatement() {
+        Customer customer = new Customer("Stream");
+        customer.addRental(new Rental(new RegularMovie("Movie A"), 3));
+        customer.addRental(new Rental(new NewReleaseMovie("Movie B"), 2));
+        StringWriter output = new StringWriter();
+
+        customer.generateStatement(new HtmlStatementFormatter(), output);
+
+        assertEquals(customer.generateStatement(new HtmlStatementFormatter()), output.toString());
+    }
+
+    @Test
+    @DisplayName("Summary should show running totals without listing rentals")
+    public void testSummaryShowsRunningTotals() {
+        Customer customer = new Customer("Summary");
+        customer.addRental(new Rental(new RegularMovie("Movie A"), 3));
+        customer.addRental(new Rental(new NewReleaseMovie("Movie B"), 2));
+
+        String expected = "Rental Record for Summary\n" +
+                "Amount owed is 9.5\n" +
+                "You earned 3 frequent renter points";
+
+        assertEquals(expected, customer.generateSummary(new TextStatementFormatter()));
+    }
+
+    @Test
+    @DisplayName("Summary should include rentals already in a history passed to the customer")
+    public void testSummaryIncludesExistingHistory() {
+        RentalList history = new RentalList();
+        history.add(new Rental(new ChildrensMovie("Frozen"), 4));
+
+        Customer customer = new Customer("Existing", history);
+
+        assertTrue(customer.generateSummary(new HtmlStatementFormatter()).contains("<em>3.0</em>"));
+        assertEquals(1, customer.getRentalCount(ChildrensMovie.class));
+    }
+
+    @Test
+    @DisplayName("Summary of an existing history should be seeded from its lines without building rentals")
+    public void testSummarySeededWithoutRentalObjects() {
+        RentalList history = new RentalList() {
+            @Override
+            public List<Rental> asRentals() {
+                throw new UnsupportedOperationException("Rentals should not be materialized");
+            }
+        };
+        history.add(new Rental(new RegularMovie("Movie A"), 3));
+
+        Customer customer = new Customer("Seeded", history);
+
+        assertTrue(customer.generateSummary(new TextStatementFormatter()).contains("Amount owed is 3.5"));
+        assertEquals(1, customer.getRentalCount(RegularMovie.class));
+    }
+
+    @Test
+    @DisplayName("Customer should count rentals per movie type")
+    public void testRentalCountPerType() {
+        Customer customer = new Customer("Counts");
+        customer.addRental(new Rental(new RegularMovie("Movie A"), 1));
+        customer.addRental(new Rental(new RegularMovie("Movie B"), 1));
+
+        assertEquals(2, customer.getRentalCount(RegularMovie.class));
+        assertEquals(0, customer.getRentalCount(NewReleaseMovie.class));
+    }
 }
@@ -0,0 +1,43 @@
+package movierental;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class MoneyTest {
+
+    @Test
+    @DisplayName("Adding money should sum the minor units exactly")
+    public void testPlusSumsExactly() {
+        Money total = Money.ofMinorUnits(10).plus(Money.ofMinorUnits(20));
+
+        assertEquals(30, total.getMinorUnits());
+    }
+
+    @Test
+    @DisplayName("Multiplying money should scale the minor units")
+    public void testTimesScalesMinorUnits() {
+        assertEquals(Money.ofMinorUnits(450), Money.ofMinorUnits(150).times(3));
+    }
+
+    @Test
+    @DisplayName("Money should convert to its amount in major units")
+    public void testToDoubleConvertsToMajorUnits() {
+        assertEquals(3.5, Money.ofMinorUnits(350).toDouble(), 0.0);
+    }
+
+    @Test
+    @DisplayName("Equal amounts should be equal and share a hash code")
+    public void testEqualityByAmount() {
+        assertEquals(Money.ofMinorUnits(200), Money.ofMinorUnits(200));
+        assertEquals(Money.ofMinorUnits(200).hashCode(), Money.ofMinorUnits(200).hashCode());
+        assertNotEquals(Money.ofMinorUnits(200), Money.ofMinorUnits(201));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    @DisplayName("Overflowing sums should fail instead of wrapping around")
+    public void testOverflowIsRejected() {
+        Money.ofMinorUnits(Long.MAX_VALUE).plus(Money.ofMinorUnits(1));
+    }
+}
@@ -0,0 +1,99 @@
+package movierental;
+
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.RegularMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.Assert.*;
+
+public class MovieCatalogTest {
+
+    private final MovieCatalog catalog = new MovieCatalog();
+
+    @Test
+    @DisplayName("Catalog should assign dense ids in registration order")
+    public void testAssignsDenseIds() {
+        assertEquals(0, catalog.idOf(new RegularMovie("First")));
+        assertEquals(1, catalog.idOf(new ChildrensMovie("Second")));
+    }
+
+    @Test
+    @DisplayName("Registering the same movie twice should return its existing id")
+    public void testReturnsExistingId() {
+        Movie movie = new RegularMovie("Again");
+        int id = catalog.idOf(movie);
+
+        assertEquals(id, catalog.idOf(movie));
+        assertEquals(1, catalog.size());
+    }
+
+    @Test
+    @DisplayName("Catalog should resolve ids back to their movies beyond its initial capacity")
+    public void testResolvesIdsAfterGrowing() {
+        Movie last = null;
+        for (int index = 0; index < 100; index++) {
+            last = new RegularMovie("Movie " + index);
+            catalog.idOf(last);
+        }
+
+        assertSame(last, catalog.movieWithId(99));
+    }
+
+    @Test
+    @DisplayName("Movies of the same type and title should be interned to the first registered instance")
+    public void testInternsSameTypeAndTitle() {
+        Movie first = new RegularMovie("Inception");
+
+        catalog.intern(first);
+
+        assertSame(first, catalog.intern(new RegularMovie("Inception")));
+    }
+
+    @Test
+    @DisplayName("Movies with the same title but different types should get different ids")
+    public void testDistinguishesTypes() {
+        int regularId = catalog.idOf(new RegularMovie("Shared Title"));
+
+        assertNotEquals(regularId, catalog.idOf(new ChildrensMovie("Shared Title")));
+    }
+
+    @Test
+    @DisplayName("Columnar histories should reuse catalog ids across customers")
+    public void testIdsAreSharedAcrossHistories() {
+        ColumnarRentalHistory first = new ColumnarRentalHistory(catalog);
+        ColumnarRentalHistory second = new ColumnarRentalHistory(catalog);
+
+        first.add(new Rental(new RegularMovie("Popular"), 1));
+        second.add(new Rental(new RegularMovie("Popular"), 2));
+
+        assertEquals(1, catalog.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Catalog should reject a movie without a title")
+    public void testRejectsMissingTitle() {
+        catalog.idOf(new RegularMovie(null));
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Ids should resolve on other threads while the catalog grows")
+    public void testResolvesIdsWhileGrowing() throws InterruptedException {
+        BlockingQueue<Integer> issuedIds = new LinkedBlockingQueue<>();
+        Thread registrar = new Thread(() -> {
+            for (int index = 0; index < 5_000; index++) {
+                issuedIds.add(catalog.idOf(new RegularMovie("Movie " + index)));
+            }
+        });
+        registrar.start();
+
+        for (int index = 0; index < 5_000; index++) {
+            int id = issuedIds.take();
+            assertEquals("Movie " + index, catalog.movieWithId(id).getTitle());
+        }
+        registrar.join();
+    }
+}
@@ -3,6 +3,9 @@ package movierental;
 import movierental.movietypes.*;
 import org.junit.Test;
 import org.junit.jupiter.api.DisplayName;
+
+import java.util.Locale;
+
 import static org.junit.Assert.*;
 
 public class MovieTest {
@@ -100,4 +103,14 @@ public class MovieTest {
         assertNotEquals(regularCharge, childrensCharge, 0.01);
         assertNotEquals(newReleaseCharge, childrensCharge, 0.01);
     }
+
+    @Test
+    @DisplayName("Styled title should be computed once and reused")
+    public void testStyledTitleIsCached() {
+        Movie movie = new RegularMovie("Tom & Jerry");
+        TitleStyle upperCase = title -> title.toUpperCase(Locale.ROOT);
+
+        assertEquals("TOM & JERRY", movie.getTitle(upperCase).toString());
+        assertSame(movie.getTitle(upperCase), movie.getTitle(upperCase));
+    }
 }
@@ -0,0 +1,88 @@
+package movierental;
+
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class OffHeapRentalHistoryTest {
+
+    private final MovieCatalog catalog = new MovieCatalog();
+    private final OffHeapRentalHistory history = new OffHeapRentalHistory(catalog);
+
+    @Test
+    @DisplayName("Statement lines should be one line repositioned onto every record in turn")
+    public void testRepositionsOneLineOverRecords() {
+        history.add(new Rental(new RegularMovie("First"), 3));
+        history.add(new Rental(new NewReleaseMovie("Second"), 2));
+        history.add(new Rental(new ChildrensMovie("Third"), 5));
+        Set<StatementLine> lines = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<String> seen = new ArrayList<>();
+
+        history.forEachLine(line -> {
+            lines.add(line);
+            seen.add(line.getMovieTitle() + " " + line.getCharge().getMinorUnits() + " " + line.getFrequentRenterPoints());
+        });
+
+        assertEquals(1, lines.size());
+        assertEquals(List.of("First 350 1", "Second 600 2", "Third 450 1"), seen);
+    }
+
+    @Test
+    @DisplayName("A cursor taken before the buffer grows should read its records from the reallocated buffer")
+    public void testCursorReadsAcrossReallocation() {
+        history.add(new Rental(new RegularMovie("Before"), 7));
+        RentalCursor cursor = history.cursor();
+        for (int daysRented = 0; daysRented < 1000; daysRented++) {
+            history.add(new Rental(new ChildrensMovie("After " + daysRented % 3), daysRented));
+        }
+
+        assertTrue(cursor.next());
+        assertEquals("Before", cursor.getMovie().getTitle());
+        assertEquals(7, cursor.getDaysRented());
+        assertFalse(cursor.next());
+    }
+
+    @Test
+    @DisplayName("Records should survive every buffer reallocation in order")
+    public void testKeepsRecordsAcrossReallocations() {
+        for (int daysRented = 0; daysRented < 1000; daysRented++) {
+            history.add(new Rental(new ChildrensMovie("Movie " + daysRented % 7), daysRented));
+        }
+        RentalCursor cursor = history.cursor();
+
+        for (int daysRented = 0; daysRented < 1000; daysRented++) {
+            assertTrue(cursor.next());
+            assertEquals(daysRented, cursor.getDaysRented());
+            assertEquals("Movie " + daysRented % 7, cursor.getMovie().getTitle());
+        }
+        assertFalse(cursor.next());
+        assertEquals(7, catalog.size());
+    }
+
+    @Test
+    @DisplayName("Day counts beyond the precomputed charges should be stored and priced like a Rental")
+    public void testLargeDayValues() {
+        Rental longest = new Rental(new RegularMovie("Forever"), Integer.MAX_VALUE);
+        Rental lengthy = new Rental(new NewReleaseMovie("A while"), 1_000_000);
+        history.add(longest);
+        history.add(lengthy);
+        RentalCursor cursor = history.cursor();
+
+        assertTrue(cursor.next());
+        assertEquals(Integer.MAX_VALUE, cursor.getDaysRented());
+        assertEquals(longest.calculateCharge(), cursor.getCharge());
+        assertTrue(cursor.next());
+        assertEquals(lengthy.calculateCharge(), cursor.getCharge());
+        assertEquals(lengthy.getFrequentRenterPoints(), cursor.getFrequentRenterPoints());
+    }
+}
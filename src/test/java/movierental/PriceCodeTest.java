@@ -0,0 +1,37 @@
+package movierental;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class PriceCodeTest {
+
+    private final ChargeTable oneUnitPerDay = ChargeTable.precompute(Money::ofMinorUnits, 30);
+
+    @Test
+    @DisplayName("Price code should charge through its charge table")
+    public void testChargesThroughTable() {
+        PriceCode priceCode = PriceCode.withoutBonus(oneUnitPerDay);
+
+        assertEquals(Money.ofMinorUnits(7), priceCode.chargeFor(7));
+    }
+
+    @Test
+    @DisplayName("Price code without bonus should always award the default points")
+    public void testWithoutBonusAwardsDefaultPoints() {
+        PriceCode priceCode = PriceCode.withoutBonus(oneUnitPerDay);
+
+        assertEquals(1, priceCode.frequentRenterPointsFor(1));
+        assertEquals(1, priceCode.frequentRenterPointsFor(365));
+    }
+
+    @Test
+    @DisplayName("Price code with bonus should award bonus points only after the threshold")
+    public void testBonusAfterThreshold() {
+        PriceCode priceCode = PriceCode.withBonusAfter(oneUnitPerDay, 1);
+
+        assertEquals(1, priceCode.frequentRenterPointsFor(1));
+        assertEquals(2, priceCode.frequentRenterPointsFor(2));
+    }
+}
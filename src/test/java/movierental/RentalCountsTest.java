@@ -0,0 +1,31 @@
+package movierental;
+
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class RentalCountsTest {
+
+    private final RentalCounts counts = new RentalCounts();
+
+    @Test
+    @DisplayName("Counts should be zero for movie types never rented")
+    public void testUnrentedTypeCountsZero() {
+        assertEquals(0, counts.countOf(RegularMovie.class));
+    }
+
+    @Test
+    @DisplayName("Counts should be kept separately per movie type")
+    public void testCountsPerType() {
+        counts.add(new NewReleaseMovie("Dune"));
+        counts.add(new NewReleaseMovie("Barbie"));
+        counts.add(new ChildrensMovie("Frozen"));
+
+        assertEquals(2, counts.countOf(NewReleaseMovie.class));
+        assertEquals(1, counts.countOf(ChildrensMovie.class));
+    }
+}
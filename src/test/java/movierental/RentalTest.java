@@ -132,4 +132,12 @@ public class RentalTest {
         Rental rentalTwoDays = new Rental(movie, 2);
         assertEquals(2, rentalTwoDays.getFrequentRenterPoints());
     }
+
+    @Test
+    @DisplayName("Rental charge should be available as exact money")
+    public void testCalculateChargeAsMoney() {
+        Rental rental = new Rental(new ChildrensMovie("Frozen"), 5);
+
+        assertEquals(Money.ofMinorUnits(450), rental.calculateCharge());
+    }
 }
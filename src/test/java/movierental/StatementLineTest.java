@@ -0,0 +1,20 @@
+package movierental;
+
+import movierental.movietypes.NewReleaseMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class StatementLineTest {
+
+    @Test
+    @DisplayName("Statement line should capture title, charge and points of the rental")
+    public void testLineCapturesRentalValues() {
+        StatementLine line = StatementLine.from(new Rental(new NewReleaseMovie("Dune"), 3));
+
+        assertEquals("Dune", line.getMovieTitle());
+        assertEquals(Money.ofMinorUnits(900), line.getCharge());
+        assertEquals(2, line.getFrequentRenterPoints());
+    }
+}
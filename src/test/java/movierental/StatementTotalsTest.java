@@ -0,0 +1,34 @@
+package movierental;
+
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class StatementTotalsTest {
+
+    @Test
+    @DisplayName("New totals should be zero")
+    public void testNewTotalsAreZero() {
+        StatementTotals totals = new StatementTotals();
+
+        assertEquals(Money.ZERO, totals.getTotalCharge());
+        assertEquals(0, totals.getTotalFrequentRenterPoints());
+        assertEquals(0, totals.getLineCount());
+    }
+
+    @Test
+    @DisplayName("Totals should sum charge and points of all added lines")
+    public void testTotalsSumAddedLines() {
+        StatementTotals totals = new StatementTotals();
+
+        totals.add(StatementLine.from(new Rental(new NewReleaseMovie("Dune"), 2)));
+        totals.add(StatementLine.from(new Rental(new ChildrensMovie("Frozen"), 4)));
+
+        assertEquals(Money.ofMinorUnits(900), totals.getTotalCharge());
+        assertEquals(3, totals.getTotalFrequentRenterPoints());
+        assertEquals(2, totals.getLineCount());
+    }
+}
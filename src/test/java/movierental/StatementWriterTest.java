@@ -0,0 +1,55 @@
+package movierental;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import static org.junit.Assert.*;
+
+public class StatementWriterTest {
+
+    @Test
+    @DisplayName("Writer should append text and characters to the underlying output in order")
+    public void testWritesTextAndCharacters() {
+        StringBuilder output = new StringBuilder();
+
+        new StatementWriter(output).write("Rental").write(' ').write("Record");
+
+        assertEquals("Rental Record", output.toString());
+    }
+
+    @Test
+    @DisplayName("Writer should append the text of pre-encoded text")
+    public void testWritesEncodedText() {
+        StringBuilder output = new StringBuilder();
+
+        new StatementWriter(output).write(EncodedText.of("Amélie"));
+
+        assertEquals("Amélie", output.toString());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    @DisplayName("Writer should rethrow I/O failures of the underlying output as unchecked")
+    public void testRethrowsIoFailureAsUnchecked() {
+        new StatementWriter(new FailingWriter()).write("text");
+    }
+
+    private static class FailingWriter extends Writer {
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            throw new IOException("disk full");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package movierental;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class Utf8EncoderTest {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final Utf8Encoder encoder = new Utf8Encoder() {
+        @Override
+        protected void put(byte encodedByte) {
+            bytes.write(encodedByte);
+        }
+    };
+
+    @Test
+    @DisplayName("Encoder should produce the same bytes as String.getBytes for every sequence length")
+    public void testMatchesStringEncoding() {
+        String text = "a é € 🎬 z";
+
+        encoder.encode(text, 0, text.length());
+        encoder.finish();
+
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Unpaired surrogates should be encoded as question marks")
+    public void testReplacesUnpairedSurrogates() {
+        String text = "\uDC00x\uD800";
+
+        encoder.encode(text, 0, text.length());
+        encoder.finish();
+
+        assertEquals("?x?", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,67 @@
+package movierental;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class Utf8StatementWriterTest {
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(64);
+    private final StatementWriter writer = new Utf8StatementWriter(buffer);
+
+    @Test
+    @DisplayName("Writer should encode text, characters and pre-encoded text as UTF-8 in order")
+    public void testEncodesAsUtf8() {
+        writer.write("Amélie ").write(EncodedText.of("Zoë 🎬")).write(' ').write('€').write("abc", 1, 3);
+
+        assertEquals("Amélie Zoë 🎬 €bc", written());
+    }
+
+    @Test
+    @DisplayName("Pre-encoded text should be copied with its encoded length")
+    public void testCopiesEncodedText() {
+        EncodedText text = EncodedText.of("Señor");
+
+        writer.write(text);
+
+        assertEquals(6, text.byteLength());
+        assertEquals(6, buffer.position());
+    }
+
+    @Test
+    @DisplayName("A surrogate pair written one character at a time should become one four-byte sequence")
+    public void testEncodesSplitSurrogatePair() {
+        String clapper = "🎬";
+
+        writer.write(clapper.charAt(0)).write(clapper.charAt(1));
+
+        assertEquals(4, buffer.position());
+        assertEquals(clapper, written());
+    }
+
+    @Test
+    @DisplayName("A high surrogate left unpaired should become a question mark when the statement ends")
+    public void testFinishesUnpairedSurrogate() {
+        Utf8StatementWriter utf8Writer = new Utf8StatementWriter(buffer);
+
+        utf8Writer.write("🎬".charAt(0));
+        utf8Writer.finish();
+
+        assertEquals("?", written());
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    @DisplayName("Writer should fail once the buffer is full")
+    public void testFailsWhenFull() {
+        new Utf8StatementWriter(ByteBuffer.allocate(4)).write("Rental");
+    }
+
+    private String written() {
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,170 @@
+package movierental.batch;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.StatementWriter;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.RegularMovie;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class BatchStatementEngineTest {
+
+    private static final int CUSTOMER_COUNT = 200;
+
+    private final ExecutorService executor = new ForkJoinPool(4);
+    private final BatchStatementEngine engine = new BatchStatementEngine(executor, 8);
+    private final TextStatementFormatter formatter = new TextStatementFormatter();
+
+    @After
+    public void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Batch run should render every customer's statement")
+    public void testRendersEveryStatement() {
+        List<RenderedStatement> received = Collections.synchronizedList(new ArrayList<>());
+
+        engine.render(customers().stream(), formatter, received::add);
+
+        assertEquals(CUSTOMER_COUNT, received.size());
+    }
+
+    @Test
+    @DisplayName("Ordered sink should receive statements in input order")
+    public void testOrderedSinkReceivesInputOrder() {
+        List<String> received = new ArrayList<>();
+
+        engine.render(customers().stream(), formatter, new OrderedStatementSink(s -> received.add(s.getCustomerName())));
+
+        assertEquals(customers().stream().map(Customer::getName).collect(Collectors.toList()), received);
+    }
+
+    @Test
+    @DisplayName("Batch statistics should count statements and characters")
+    public void testStatisticsCountVolume() {
+        String statement = customers().get(0).generateStatement(formatter);
+
+        BatchStatistics statistics = engine.render(customers().subList(0, 1).stream(), formatter, s -> { });
+
+        assertEquals(1, statistics.getStatementCount());
+        assertEquals(statement.length(), statistics.getCharacterCount());
+    }
+
+    @Test(expected = BatchStatementException.class)
+    @DisplayName("Failure in the sink should abort the batch run")
+    public void testSinkFailureAbortsRun() {
+        engine.render(customers().stream(), formatter, s -> {
+            throw new IllegalStateException("archive unavailable");
+        });
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Statements held back behind a slow first customer should count against the in-flight limit")
+    public void testSlowFirstCustomerBoundsHeldStatements() throws InterruptedException {
+        CountDownLatch firstMayFinish = new CountDownLatch(1);
+        SlowFirstFormatter slowFormatter = new SlowFirstFormatter(firstMayFinish);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        Thread run = new Thread(() -> new BatchStatementEngine(executor, 3)
+                .render(customers().stream(), slowFormatter, new OrderedStatementSink(s -> received.add(s.getCustomerName()))));
+        run.start();
+
+        Thread.sleep(200);
+        int renderedWhileBlocked = slowFormatter.started.get();
+        firstMayFinish.countDown();
+        run.join();
+
+        assertTrue(renderedWhileBlocked <= 3);
+        assertEquals(CUSTOMER_COUNT, received.size());
+        assertEquals("Customer 0", received.get(0));
+    }
+
+    @Test(timeout = 10_000, expected = BatchStatementException.class)
+    @DisplayName("Failure to render the first customer should abort an ordered run instead of waiting for it")
+    public void testRenderFailureAbortsOrderedRun() {
+        TextStatementFormatter failingFormatter = new TextStatementFormatter() {
+            @Override
+            protected void writeHeader(String customerName, StatementWriter writer) {
+                if (customerName.equals("Customer 0")) {
+                    throw new IllegalStateException("template missing");
+                }
+                super.writeHeader(customerName, writer);
+            }
+        };
+
+        engine.render(customers().stream(), failingFormatter, new OrderedStatementSink(s -> { }));
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Reusing an ordered sink for a second run should fail instead of holding its statements forever")
+    public void testOrderedSinkServesSingleRun() {
+        OrderedStatementSink sink = new OrderedStatementSink(s -> { });
+        engine.render(customers().stream(), formatter, sink);
+
+        try {
+            engine.render(customers().stream(), formatter, sink);
+            fail("Expected a BatchStatementException");
+        } catch (BatchStatementException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Engine should reject a non-positive in-flight limit")
+    public void testRejectsNonPositiveInFlightLimit() {
+        new BatchStatementEngine(executor, 0);
+    }
+
+    private List<Customer> customers() {
+        return IntStream.range(0, CUSTOMER_COUNT)
+                .mapToObj(this::customer)
+                .collect(Collectors.toList());
+    }
+
+    private Customer customer(int index) {
+        Customer customer = new Customer("Customer " + index);
+        customer.addRental(new Rental(new RegularMovie("Movie " + index), index % 7));
+        return customer;
+    }
+
+    private static class SlowFirstFormatter extends TextStatementFormatter {
+
+        private final AtomicInteger started = new AtomicInteger();
+        private final CountDownLatch firstMayFinish;
+
+        SlowFirstFormatter(CountDownLatch firstMayFinish) {
+            this.firstMayFinish = firstMayFinish;
+        }
+
+        @Override
+        protected void writeHeader(String customerName, StatementWriter writer) {
+            started.incrementAndGet();
+            if (customerName.equals("Customer 0")) {
+                awaitUninterruptibly(firstMayFinish);
+            }
+            super.writeHeader(customerName, writer);
+        }
+
+        private static void awaitUninterruptibly(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package movierental.batch;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OrderedStatementSinkTest {
+
+    private final List<Long> delivered = new ArrayList<>();
+    private final OrderedStatementSink sink = new OrderedStatementSink(s -> delivered.add(s.getSequence()));
+
+    @Test
+    @DisplayName("Out of order statements should be held back until their predecessors arrive")
+    public void testHoldsBackOutOfOrderStatements() {
+        sink.accept(statement(1));
+        sink.accept(statement(2));
+
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Held back statements should be released in input order")
+    public void testReleasesInInputOrder() {
+        sink.accept(statement(2));
+        sink.accept(statement(1));
+        sink.accept(statement(0));
+
+        assertEquals(List.of(0L, 1L, 2L), delivered);
+    }
+
+    private RenderedStatement statement(long sequence) {
+        return new RenderedStatement(sequence, "Customer " + sequence, "statement");
+    }
+}
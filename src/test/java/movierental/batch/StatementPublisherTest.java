@@ -0,0 +1,179 @@
+package movierental.batch;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.RegularMovie;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class StatementPublisherTest {
+
+    private static final Object COMPLETE = new Object();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final TextStatementFormatter formatter = new TextStatementFormatter();
+    private final List<Customer> customers = customers(5);
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    @After
+    public void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Publisher should publish every statement in customer order and complete")
+    public void testPublishesEveryStatement() throws InterruptedException {
+        new StatementPublisher(customers, formatter, executor).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        for (Customer customer : customers) {
+            StatementChunk chunk = (StatementChunk) subscriber.next();
+            assertEquals(customer.getName(), chunk.getCustomerName());
+            assertEquals(customer.generateStatement(formatter), chunk.getText());
+            assertTrue(chunk.isLast());
+        }
+        assertSame(COMPLETE, subscriber.next());
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Publisher should cut large statements into chunks that join up to the statement")
+    public void testCutsStatementsIntoChunks() throws InterruptedException {
+        new StatementPublisher(customers.subList(0, 1), formatter, executor).withChunkSize(16).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        StringBuilder statement = new StringBuilder();
+        for (Object signal = subscriber.next(); signal != COMPLETE; signal = subscriber.next()) {
+            StatementChunk chunk = (StatementChunk) signal;
+            assertTrue(chunk.getText().length() <= 16);
+            statement.append(chunk.getText());
+        }
+        assertEquals(customers.get(0).generateStatement(formatter), statement.toString());
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Publisher should publish no more chunks than requested")
+    public void testRespectsDemand() throws InterruptedException {
+        new StatementPublisher(customers, formatter, executor).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        subscriber.next();
+        subscriber.next();
+
+        assertNull(subscriber.signals.poll(100, TimeUnit.MILLISECONDS));
+        subscriber.subscription.request(1);
+        assertEquals(customers.get(2).getName(), ((StatementChunk) subscriber.next()).getCustomerName());
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Publisher should stop after the subscriber cancels")
+    public void testStopsAfterCancel() throws InterruptedException {
+        new StatementPublisher(customers, formatter, executor).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.next();
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        assertNull(subscriber.signals.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Publisher should signal an error for a non-positive request")
+    public void testSignalsErrorForInvalidRequest() throws InterruptedException {
+        new StatementPublisher(customers, formatter, executor).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.next() instanceof IllegalArgumentException);
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Publisher should not signal an error after onComplete, even when onComplete throws")
+    public void testNoSignalAfterComplete() throws InterruptedException {
+        RecordingSubscriber throwingOnComplete = new RecordingSubscriber() {
+            @Override
+            public void onComplete() {
+                super.onComplete();
+                throw new IllegalStateException("Subscriber failed on completion");
+            }
+        };
+        new StatementPublisher(customers, formatter, executor).subscribe(throwingOnComplete);
+        throwingOnComplete.subscription.request(Long.MAX_VALUE);
+
+        for (int chunk = 0; chunk < customers.size(); chunk++) {
+            assertTrue(throwingOnComplete.next() instanceof StatementChunk);
+        }
+        assertSame(COMPLETE, throwingOnComplete.next());
+        assertNull(throwingOnComplete.signals.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Publisher should signal a failing onNext once as an error and then stop")
+    public void testSignalsOnNextFailureOnce() throws InterruptedException {
+        IllegalStateException failure = new IllegalStateException("Subscriber failed on a chunk");
+        RecordingSubscriber throwingOnNext = new RecordingSubscriber() {
+            @Override
+            public void onNext(StatementChunk chunk) {
+                throw failure;
+            }
+        };
+        new StatementPublisher(customers, formatter, executor).subscribe(throwingOnNext);
+        throwingOnNext.subscription.request(Long.MAX_VALUE);
+
+        assertSame(failure, throwingOnNext.next());
+        assertNull(throwingOnNext.signals.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    private static List<Customer> customers(int count) {
+        List<Customer> customers = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            Customer customer = new Customer("Customer " + index);
+            customer.addRental(new Rental(new RegularMovie("Movie " + index), index + 1));
+            customers.add(customer);
+        }
+        return customers;
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<StatementChunk> {
+
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(StatementChunk chunk) {
+            signals.add(chunk);
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            signals.add(failure);
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add(COMPLETE);
+        }
+
+        private Object next() throws InterruptedException {
+            return signals.take();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package movierental.cache;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.formatters.HtmlStatementFormatter;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.RegularMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class StatementCacheTest {
+
+    private final StatementCache cache = new StatementCache(2);
+    private final TextStatementFormatter textFormatter = new TextStatementFormatter();
+
+    @Test
+    @DisplayName("Repeated requests should be served from the cache")
+    public void testRepeatedRequestIsHit() {
+        Customer customer = customer("Alice");
+
+        String first = cache.statementFor(customer, textFormatter);
+        String second = cache.statementFor(customer, textFormatter);
+
+        assertSame(first, second);
+        assertEquals(1, cache.statistics().getHits());
+    }
+
+    @Test
+    @DisplayName("Adding a rental should invalidate the cached statement")
+    public void testAddRentalInvalidates() {
+        Customer customer = customer("Bob");
+        cache.statementFor(customer, textFormatter);
+
+        customer.addRental(new Rental(new RegularMovie("Sequel"), 1));
+
+        assertEquals(customer.generateStatement(textFormatter), cache.statementFor(customer, textFormatter));
+        assertEquals(2, cache.statistics().getMisses());
+    }
+
+    @Test
+    @DisplayName("Statements of different formatter types should be cached separately")
+    public void testFormatterTypesAreSeparate() {
+        Customer customer = customer("Carol");
+        cache.statementFor(customer, textFormatter);
+
+        String html = cache.statementFor(customer, new HtmlStatementFormatter());
+
+        assertTrue(html.startsWith("<h1>"));
+    }
+
+    @Test
+    @DisplayName("Least recently used statement should be evicted when the cache is full")
+    public void testEvictsLeastRecentlyUsed() {
+        Customer first = customer("First");
+        Customer second = customer("Second");
+        cache.statementFor(first, textFormatter);
+        cache.statementFor(second, textFormatter);
+        cache.statementFor(first, textFormatter);
+
+        cache.statementFor(customer("Third"), textFormatter);
+        cache.statementFor(first, textFormatter);
+
+        assertEquals(1, cache.statistics().getEvictions());
+        assertEquals(2, cache.statistics().getHits());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Cache should reject a non-positive size")
+    public void testRejectsNonPositiveSize() {
+        new StatementCache(0);
+    }
+
+    private Customer customer(String name) {
+        Customer customer = new Customer(name);
+        customer.addRental(new Rental(new RegularMovie("Original"), 3));
+        return customer;
+    }
+}
@@ -5,6 +5,8 @@ import movierental.movietypes.*;
 import org.junit.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -66,13 +68,13 @@ public class HtmlStatementFormatterTest {
     }
 
     @Test
-    @DisplayName("Format should handle customer name with HTML special characters")
+    @DisplayName("Format should escape HTML special characters in the customer name")
     public void testFormatWithHtmlSpecialCharactersInName() {
         List<Rental> rentals = new ArrayList<>();
         
         String result = formatter.format("O'Brien & Co", rentals);
         
-        assertTrue(result.contains("<em>O'Brien & Co</em>"));
+        assertTrue(result.contains("<em>O&#39;Brien &amp; Co</em>"));
     }
 
     @Test
@@ -119,13 +121,13 @@ public class HtmlStatementFormatterTest {
     }
 
     @Test
-    @DisplayName("FormatLine should handle movie titles with HTML special characters")
+    @DisplayName("FormatLine should escape HTML special characters in movie titles")
     public void testFormatLineWithSpecialCharactersInTitle() {
         Rental rental = new Rental(new RegularMovie("Movie: The <Sequel> & More"), 1);
         
         String result = formatter.formatLine(rental);
         
-        assertTrue(result.contains("Movie: The <Sequel> & More")); // Raw HTML in test
+        assertTrue(result.contains("<td>Movie: The &lt;Sequel&gt; &amp; More</td>"));
     }
 
     @Test
@@ -294,6 +296,19 @@ public class HtmlStatementFormatterTest {
         assertTrue(result.contains("<em>" + longName + "</em>"));
     }
 
+    @Test
+    @DisplayName("Format into a byte buffer should produce the UTF-8 of the HTML statement")
+    public void testFormatIntoByteBuffer() {
+        List<Rental> rentals = new ArrayList<>();
+        rentals.add(new Rental(new RegularMovie("Amélie & \uD83C\uDFAC"), 3));
+        rentals.add(new Rental(new NewReleaseMovie("Plain"), 2));
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        formatter.format("Zoë", rentals, buffer);
+
+        assertEquals(formatter.format("Zoë", rentals), new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
     // ========== HELPER METHODS ==========
 
     private int countOccurrences(String text, String pattern) {
@@ -0,0 +1,92 @@
+package movierental.formatters;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.RentalHistory;
+import movierental.RentalList;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class JsonStatementFormatterTest {
+
+    private final JsonStatementFormatter formatter = new JsonStatementFormatter();
+
+    @Test
+    @DisplayName("JSON statement should contain customer, rentals and totals")
+    public void testFormatsStatement() {
+        Customer customer = new Customer("Alice");
+        customer.addRental(new Rental(new RegularMovie("Jaws"), 3));
+        customer.addRental(new Rental(new NewReleaseMovie("Up"), 2));
+
+        assertEquals("{\"customer\":\"Alice\",\"rentals\":["
+                        + "{\"title\":\"Jaws\",\"charge\":3.50,\"points\":1},"
+                        + "{\"title\":\"Up\",\"charge\":6.00,\"points\":2}],"
+                        + "\"totalCharge\":9.50,\"frequentRenterPoints\":3}",
+                customer.generateStatement(formatter));
+    }
+
+    @Test
+    @DisplayName("JSON statement without rentals should have an empty rentals array")
+    public void testFormatsEmptyStatement() {
+        assertEquals("{\"customer\":\"Idle\",\"rentals\":[],\"totalCharge\":0.00,\"frequentRenterPoints\":0}",
+                new Customer("Idle").generateStatement(formatter));
+    }
+
+    @Test
+    @DisplayName("JSON summary should be a complete object without rentals")
+    public void testFormatsSummary() {
+        Customer customer = new Customer("Alice");
+        customer.addRental(new Rental(new ChildrensMovie("Frozen"), 4));
+
+        assertEquals("{\"customer\":\"Alice\",\"totalCharge\":3.00,\"frequentRenterPoints\":1}",
+                customer.generateSummary(formatter));
+    }
+
+    @Test
+    @DisplayName("JSON strings should escape quotes, backslashes and control characters")
+    public void testEscapesStrings() {
+        assertEquals("{\"title\":\"Say \\\"Hi\\\" \\\\ \\u0009bye\",\"charge\":2.00,\"points\":1}",
+                formatter.formatLine(new Rental(new RegularMovie("Say \"Hi\" \\ \tbye"), 1)));
+    }
+
+    @Test
+    @DisplayName("UTF-8 output to a stream should match the encoded character output")
+    public void testWritesUtf8ToStream() {
+        RentalHistory rentals = rentals();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        formatter.format("Zoë \uD83C\uDFAC", rentals, output);
+
+        assertArrayEquals(formatter.format("Zoë \uD83C\uDFAC", rentals).getBytes(StandardCharsets.UTF_8), output.toByteArray());
+    }
+
+    @Test
+    @DisplayName("UTF-8 output to a buffer should match the encoded character output")
+    public void testWritesUtf8ToBuffer() {
+        RentalHistory rentals = rentals();
+        ByteBuffer buffer = ByteBuffer.allocate(32 * 1024);
+
+        formatter.format("Zoë", rentals, buffer);
+
+        byte[] expected = formatter.format("Zoë", rentals).getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    private RentalHistory rentals() {
+        RentalHistory rentals = new RentalList();
+        rentals.add(new Rental(new RegularMovie("Amélie"), 5));
+        rentals.add(new Rental(new ChildrensMovie("千と千尋の神隠し"), 2));
+        rentals.add(new Rental(new NewReleaseMovie("Long Title ".repeat(1000)), 1));
+        return rentals;
+    }
+}
@@ -1,10 +1,16 @@
 package movierental.formatters;
 
+import movierental.ChargeTable;
+import movierental.Money;
+import movierental.Movie;
+import movierental.PriceCode;
 import movierental.Rental;
 import movierental.movietypes.*;
 import org.junit.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -82,6 +88,32 @@ public class TextStatementFormatterTest {
         assertTrue(result.contains("Rental Record for " + longName));
     }
 
+    @Test
+    @DisplayName("Format should stream the statement into the supplied output")
+    public void testFormatIntoAppendable() {
+        List<Rental> rentals = new ArrayList<>();
+        rentals.add(new Rental(new RegularMovie("The Matrix"), 3));
+        StringBuilder output = new StringBuilder("Preamble\n");
+
+        formatter.format("Alice", rentals, output);
+
+        assertEquals("Preamble\n" + formatter.format("Alice", rentals), output.toString());
+    }
+
+    @Test
+    @DisplayName("Format should price every rental exactly once per statement")
+    public void testFormatPricesEachRentalOnce() {
+        ChargeCounter counter = new ChargeCounter();
+        Movie movie = new CountedMovie(counter);
+        List<Rental> rentals = new ArrayList<>();
+        rentals.add(new Rental(movie, 2));
+        rentals.add(new Rental(movie, 3));
+
+        formatter.format("Alice", rentals);
+
+        assertEquals(2, counter.chargeCalculations);
+    }
+
     // ========== FORMAT LINE METHOD TESTS ==========
 
     @Test
@@ -229,4 +261,34 @@ public class TextStatementFormatterTest {
         assertTrue(result.contains("Amount owed"));
         assertTrue(result.split("\n").length >= 52); // header + 50 movies + footer
     }
+
+    @Test
+    @DisplayName("Format into a byte buffer should produce the UTF-8 of the text statement")
+    public void testFormatIntoByteBuffer() {
+        List<Rental> rentals = new ArrayList<>();
+        rentals.add(new Rental(new RegularMovie("Amélie & \uD83C\uDFAC"), 3));
+        rentals.add(new Rental(new NewReleaseMovie("Plain"), 2));
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        formatter.format("Zoë", rentals, buffer);
+
+        assertEquals(formatter.format("Zoë", rentals), new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
+    private static class ChargeCounter {
+
+        private int chargeCalculations;
+
+        private Money countCharge(int daysRented) {
+            chargeCalculations++;
+            return Money.ofMinorUnits(daysRented);
+        }
+    }
+
+    private static class CountedMovie extends Movie {
+
+        CountedMovie(ChargeCounter counter) {
+            super("Counted", PriceCode.withoutBonus(ChargeTable.formulaOnly(counter::countCharge)));
+        }
+    }
 }
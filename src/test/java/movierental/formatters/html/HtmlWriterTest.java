@@ -0,0 +1,56 @@
+package movierental.formatters.html;
+
+import movierental.Movie;
+import movierental.StatementWriter;
+import movierental.movietypes.RegularMovie;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class HtmlWriterTest {
+
+    @Test
+    @DisplayName("Escape should return clean text itself")
+    public void testEscapeReturnsCleanText() {
+        String text = "Plain title, 100% clean: été";
+
+        assertSame(text, HtmlWriter.escape(text));
+    }
+
+    @Test
+    @DisplayName("Escape should replace every markup character")
+    public void testEscapeReplacesMarkupCharacters() {
+        assertEquals("&lt;a href=&quot;x&quot;&gt;Tom &amp; Jerry&#39;s&lt;/a&gt;",
+                HtmlWriter.escape("<a href=\"x\">Tom & Jerry's</a>"));
+    }
+
+    @Test
+    @DisplayName("Escape should handle markup characters at both ends and in a row")
+    public void testEscapeAtBoundaries() {
+        assertEquals("&amp;&amp;x&lt;&gt;", HtmlWriter.escape("&&x<>"));
+        assertEquals("", HtmlWriter.escape(""));
+    }
+
+    @Test
+    @DisplayName("Writer should escape text but pass markup through")
+    public void testWritesEscapedTextBetweenMarkup() {
+        StringBuilder output = new StringBuilder();
+
+        new HtmlWriter(new StatementWriter(output))
+                .writeMarkup("<em>")
+                .writeEscaped("O'Brien & Co")
+                .writeMarkup("</em>");
+
+        assertEquals("<em>O&#39;Brien &amp; Co</em>", output.toString());
+    }
+
+    @Test
+    @DisplayName("Title style should escape a movie's title once")
+    public void testTitleStyleIsCachedPerMovie() {
+        Movie movie = new RegularMovie("Tom & Jerry");
+
+        assertEquals("Tom &amp; Jerry", movie.getTitle(HtmlWriter.TITLE_STYLE).toString());
+        assertSame(movie.getTitle(HtmlWriter.TITLE_STYLE), movie.getTitle(HtmlWriter.TITLE_STYLE));
+    }
+}
@@ -0,0 +1,86 @@
+package movierental.formatters.template;
+
+import movierental.Money;
+import movierental.StatementWriter;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class StatementTemplateTest {
+
+    private static final long[] SAMPLE_MINOR_UNITS = {
+            0, 150, 200, 350, 1_400, 30_000, -450, -4, 5, 25, 1_234, 999_999_950L, 1_234_567_800L
+    };
+
+    @Test
+    @DisplayName("Compiled one-decimal template should render exactly like String.format")
+    public void testOneDecimalMatchesStringFormat() {
+        StatementTemplate template = StatementTemplate.compile("\t%s\t%.1f\n");
+
+        for (long minorUnits : SAMPLE_MINOR_UNITS) {
+            Money amount = Money.ofMinorUnits(minorUnits);
+            assertEquals(String.format("\t%s\t%.1f\n", "Title", amount.toDouble()),
+                    render(template, new TemplateArguments().text("Title").money(amount)));
+        }
+    }
+
+    @Test
+    @DisplayName("Money passed to a text placeholder should render like its amount as a double")
+    public void testMoneyInTextPlaceholderMatchesStringFormat() {
+        StatementTemplate template = StatementTemplate.compile("Amount owed is %s");
+
+        for (long minorUnits : SAMPLE_MINOR_UNITS) {
+            Money amount = Money.ofMinorUnits(minorUnits);
+            assertEquals(String.format("Amount owed is %s", amount.toDouble()),
+                    render(template, new TemplateArguments().money(amount)));
+        }
+    }
+
+    @Test
+    @DisplayName("Integer placeholder should render like String.format")
+    public void testIntegerMatchesStringFormat() {
+        StatementTemplate template = StatementTemplate.compile("<em>%d</em> points");
+
+        for (int count : new int[]{0, 7, -12, 1_000_000, Integer.MIN_VALUE}) {
+            assertEquals(String.format("<em>%d</em> points", count),
+                    render(template, new TemplateArguments().count(count)));
+        }
+    }
+
+    @Test
+    @DisplayName("A template should follow default format locale changes made after it was compiled")
+    public void testFollowsDefaultLocaleChanges() {
+        StatementTemplate template = StatementTemplate.compile("%.1f");
+        Locale original = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            assertEquals("1,5", render(template, new TemplateArguments().money(Money.ofMinorUnits(150))));
+
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            assertEquals("1.5", render(template, new TemplateArguments().money(Money.ofMinorUnits(150))));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, original);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Compiling an unsupported specifier should fail")
+    public void testUnsupportedSpecifierIsRejected() {
+        StatementTemplate.compile("%x");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Rendering with a missing argument should fail")
+    public void testMissingArgumentIsRejected() {
+        render(StatementTemplate.compile("%s and %s"), new TemplateArguments().text("one"));
+    }
+
+    private String render(StatementTemplate template, TemplateArguments arguments) {
+        StringBuilder output = new StringBuilder();
+        template.render(new StatementWriter(output), arguments);
+        return output.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package movierental.formatters.template;
+
+import movierental.Money;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class TemplateArgumentsTest {
+
+    @Test
+    @DisplayName("Arguments should be addressed by the position they were added at")
+    public void testArgumentsArePositional() {
+        TemplateArguments arguments = new TemplateArguments().text("Title").money(Money.ofMinorUnits(350)).count(2);
+
+        assertEquals("Title", arguments.textAt(0));
+        assertEquals(Money.ofMinorUnits(350), arguments.moneyAt(1));
+        assertEquals(2, arguments.countAt(2));
+    }
+
+    @Test
+    @DisplayName("Clearing arguments should allow them to be refilled from the first position")
+    public void testClearRestartsAtFirstPosition() {
+        TemplateArguments arguments = new TemplateArguments().text("First");
+
+        arguments.clear().text("Second");
+
+        assertEquals("Second", arguments.textAt(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Reading an argument as the wrong kind should fail")
+    public void testWrongKindIsRejected() {
+        new TemplateArguments().text("Title").moneyAt(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @DisplayName("Adding more arguments than a template can take should fail")
+    public void testTooManyArgumentsAreRejected() {
+        new TemplateArguments().count(1).count(2).count(3).count(4).count(5);
+    }
+}
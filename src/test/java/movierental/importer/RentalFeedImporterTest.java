@@ -0,0 +1,143 @@
+package movierental.importer;
+
+import movierental.Customer;
+import movierental.MovieCatalog;
+import movierental.Rental;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import movierental.registry.CustomerRegistry;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class RentalFeedImporterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ExecutorService executor = new ForkJoinPool(4);
+    private final MovieCatalog catalog = new MovieCatalog();
+    private final RentalFeedImporter importer = new RentalFeedImporter(catalog, executor, 64);
+    private final CustomerRegistry customers = new CustomerRegistry(4);
+    private final TextStatementFormatter formatter = new TextStatementFormatter();
+
+    @After
+    public void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Import should give every customer its rentals in feed order across chunks")
+    public void testImportsRentalsInFeedOrder() throws IOException {
+        StringBuilder feed = new StringBuilder();
+        Customer alice = new Customer("Alice");
+        Customer bob = new Customer("Bob");
+        for (int index = 0; index < 100; index++) {
+            feed.append("Alice,Movie ").append(index % 7).append(",REGULAR,").append(index % 5 + 1).append('\n');
+            feed.append("Bob,Movie ").append(index % 3).append(",NEW_RELEASE,").append(index % 4 + 1).append('\n');
+            alice.addRental(new Rental(new RegularMovie("Movie " + index % 7), index % 5 + 1));
+            bob.addRental(new Rental(new NewReleaseMovie("Movie " + index % 3), index % 4 + 1));
+        }
+
+        ImportStatistics statistics = importer.importInto(feed(feed.toString()), customers);
+
+        assertEquals(200, statistics.getRowCount());
+        assertEquals(alice.generateStatement(formatter), customers.find("Alice").get().generateStatement(formatter));
+        assertEquals(bob.generateStatement(formatter), customers.find("Bob").get().generateStatement(formatter));
+        assertEquals(10, catalog.size());
+    }
+
+    @Test
+    @DisplayName("Import should accept titles with commas, CRLF line ends, blank lines and no final line break")
+    public void testImportsIrregularLines() throws IOException {
+        importer.importInto(feed("Zoë,Crouching Tiger, Hidden Dragon,CHILDRENS,4\r\n\nZoë,Amélie,REGULAR,2"), customers);
+
+        Customer zoe = customers.find("Zoë").get();
+        assertEquals("Crouching Tiger, Hidden Dragon", zoe.getRentals().get(0).getMovieTitle());
+        assertEquals(2, zoe.getRentals().get(1).getDaysRented());
+        assertEquals(1, zoe.getRentalCount(ChildrensMovie.class));
+    }
+
+    @Test
+    @DisplayName("Import should share one movie instance between customers")
+    public void testSharesMovies() throws IOException {
+        importer.importInto(feed("Alice,Jaws,REGULAR,1\nBob,Jaws,REGULAR,2\n"), customers);
+
+        assertSame(customers.find("Alice").get().getRentals().get(0).getMovie(),
+                customers.find("Bob").get().getRentals().get(0).getMovie());
+    }
+
+    @Test
+    @DisplayName("Import should add rentals to customers already registered")
+    public void testAddsToExistingCustomers() throws IOException {
+        Customer alice = customers.getOrCreate("Alice");
+        alice.addRental(new Rental(new RegularMovie("Before"), 1));
+
+        importer.importInto(feed("Alice,After,REGULAR,1\n"), customers);
+
+        assertEquals(2, alice.getRentals().size());
+        assertEquals("After", alice.getRentals().get(1).getMovieTitle());
+    }
+
+    @Test
+    @DisplayName("Import should reject an unknown movie type with the byte offset of the line")
+    public void testRejectsUnknownType() throws IOException {
+        try {
+            importer.importInto(feed("Alice,Jaws,REGULAR,1\nBob,Jaws,CLASSIC,2\n"), customers);
+            fail("Expected a RentalFeedException");
+        } catch (RentalFeedException e) {
+            assertEquals("Malformed rental at byte 21: unknown movie type", e.getMessage());
+        }
+        assertFalse(customers.find("Alice").isPresent());
+    }
+
+    @Test(expected = RentalFeedException.class)
+    @DisplayName("Import should reject a line with missing fields")
+    public void testRejectsMissingFields() throws IOException {
+        importer.importInto(feed("Alice,REGULAR,1\n"), customers);
+    }
+
+    @Test(expected = RentalFeedException.class)
+    @DisplayName("Import should reject days rented that are not a number")
+    public void testRejectsNonNumericDays() throws IOException {
+        importer.importInto(feed("Alice,Jaws,REGULAR,two\n"), customers);
+    }
+
+    @Test
+    @DisplayName("Import should reject days rented beyond int range instead of wrapping around")
+    public void testRejectsDaysBeyondIntRange() throws IOException {
+        try {
+            importer.importInto(feed("Ann,Up,REGULAR,4294967297\n"), customers);
+            fail("Expected a RentalFeedException");
+        } catch (RentalFeedException e) {
+            assertEquals("Malformed rental at byte 0: days rented is too large", e.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Import should accept the largest int as days rented")
+    public void testAcceptsLargestDays() throws IOException {
+        importer.importInto(feed("Ann,Up,REGULAR," + Integer.MAX_VALUE + "\n"), customers);
+
+        assertEquals(Integer.MAX_VALUE, customers.find("Ann").get().getRentals().get(0).getDaysRented());
+    }
+
+    private Path feed(String contents) throws IOException {
+        Path feed = folder.newFile().toPath();
+        Files.write(feed, contents.getBytes(StandardCharsets.UTF_8));
+        return feed;
+    }
+}
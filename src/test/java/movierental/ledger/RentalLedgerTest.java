@@ -0,0 +1,169 @@
+package movierental.ledger;
+
+import movierental.ChargeTable;
+import movierental.Customer;
+import movierental.Money;
+import movierental.Movie;
+import movierental.PriceCode;
+import movierental.Rental;
+import movierental.formatters.HtmlStatementFormatter;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class RentalLedgerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final RentalLedgerWriter writer = new RentalLedgerWriter();
+
+    @Test
+    @DisplayName("Customers read from a ledger should render the statements they were written with")
+    public void testRoundTripsStatements() throws IOException {
+        Customer alice = customer("Alice");
+        Customer bob = customer("Bob");
+        writer.add(bob);
+        writer.add(alice);
+
+        RentalLedger ledger = RentalLedger.open(write());
+
+        assertEquals(2, ledger.getCustomerCount());
+        assertEquals(alice.generateStatement(new TextStatementFormatter()),
+                ledger.customerAt(0).generateStatement(new TextStatementFormatter()));
+        assertEquals(bob.generateStatement(new HtmlStatementFormatter()),
+                ledger.customerAt(1).generateStatement(new HtmlStatementFormatter()));
+    }
+
+    @Test
+    @DisplayName("Ledger should find customers by name")
+    public void testFindsCustomerByName() throws IOException {
+        writer.add(customer("Carol"));
+        writer.add(customer("Alice"));
+        writer.add(customer("Bob"));
+
+        RentalLedger ledger = RentalLedger.open(write());
+
+        assertEquals("Bob", ledger.findCustomer("Bob").get().getName());
+        assertFalse(ledger.findCustomer("Dave").isPresent());
+    }
+
+    @Test
+    @DisplayName("Customer read from a ledger should accept new rentals and keep its totals")
+    public void testReopenedCustomerAcceptsRentals() throws IOException {
+        Customer original = customer("Alice");
+        writer.add(original);
+        Customer reopened = RentalLedger.open(write()).customerAt(0);
+
+        Rental rental = new Rental(new RegularMovie("Extra"), 4);
+        original.addRental(rental);
+        reopened.addRental(rental);
+
+        assertEquals(original.generateStatement(new TextStatementFormatter()),
+                reopened.generateStatement(new TextStatementFormatter()));
+        assertEquals(original.generateSummary(new TextStatementFormatter()),
+                reopened.generateSummary(new TextStatementFormatter()));
+    }
+
+    @Test
+    @DisplayName("Ledger should return the same customer for every lookup, keeping rentals added to it")
+    public void testLookupsShareOneCustomer() throws IOException {
+        writer.add(customer("Alice"));
+        RentalLedger ledger = RentalLedger.open(write());
+
+        Customer alice = ledger.findCustomer("Alice").get();
+        alice.addRental(new Rental(new RegularMovie("Extra"), 4));
+
+        assertSame(alice, ledger.customerAt(0));
+        assertSame(alice, ledger.findCustomer("Alice").get());
+        assertEquals(5, ledger.findCustomer("Alice").get().getRentals().size());
+    }
+
+    @Test
+    @DisplayName("Ledger should store customers without rentals")
+    public void testStoresCustomerWithoutRentals() throws IOException {
+        writer.add(new Customer("Idle"));
+
+        Customer idle = RentalLedger.open(write()).customerAt(0);
+
+        assertTrue(idle.getRentals().isEmpty());
+        assertEquals(new Customer("Idle").generateStatement(new HtmlStatementFormatter()),
+                idle.generateStatement(new HtmlStatementFormatter()));
+    }
+
+    @Test
+    @DisplayName("Writing should replace an existing ledger and leave no temporary file behind")
+    public void testReplacesExistingLedger() throws IOException {
+        writer.add(customer("Alice"));
+        Path file = write();
+        RentalLedgerWriter replacement = new RentalLedgerWriter();
+        replacement.add(customer("Bob"));
+
+        replacement.writeTo(file);
+
+        assertEquals("Bob", RentalLedger.open(file).customerAt(0).getName());
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Writer should reject duplicate customer names")
+    public void testRejectsDuplicateNames() {
+        writer.add(customer("Alice"));
+        writer.add(customer("Alice"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Writer should reject movie types the ledger cannot store")
+    public void testRejectsUnknownMovieType() throws IOException {
+        Customer customer = new Customer("Alice");
+        customer.addRental(new Rental(new UnknownMovie(), 1));
+        writer.add(customer);
+
+        write();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Opening a file that is not a ledger should fail")
+    public void testRejectsForeignFile() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, "not a ledger at all".getBytes());
+
+        RentalLedger.open(file);
+    }
+
+    private Path write() throws IOException {
+        Path file = folder.newFile().toPath();
+        writer.writeTo(file);
+        return file;
+    }
+
+    private Customer customer(String name) {
+        Customer customer = new Customer(name);
+        customer.addRental(new Rental(new RegularMovie("Gone with the Wind"), 3));
+        customer.addRental(new Rental(new NewReleaseMovie("Star Wars " + name), 2));
+        customer.addRental(new Rental(new ChildrensMovie("Frozen"), 5));
+        customer.addRental(new Rental(new RegularMovie("Amélie"), 1));
+        return customer;
+    }
+
+    private static class UnknownMovie extends Movie {
+
+        private UnknownMovie() {
+            super("Unknown", PriceCode.withoutBonus(ChargeTable.formulaOnly(days -> Money.ZERO)));
+        }
+    }
+}
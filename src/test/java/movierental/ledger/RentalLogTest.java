@@ -0,0 +1,197 @@
+package movierental.ledger;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.ChildrensMovie;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class RentalLogTest {
+
+    private static final GroupCommitPolicy IMMEDIATE = new GroupCommitPolicy(Duration.ZERO, 1);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Map<String, Customer> customers = new HashMap<>();
+
+    @Test
+    @DisplayName("Reopening a log should rebuild the customers from the logged rentals")
+    public void testReplayRebuildsCustomers() throws IOException {
+        Path path = logPath();
+        Customer original = new Customer("Alice");
+        try (RentalLog log = RentalLog.open(path, IMMEDIATE, this::customerNamed)) {
+            log.addRental(original, new Rental(new RegularMovie("Gone with the Wind"), 3));
+            log.addRental(original, new Rental(new NewReleaseMovie("Star Wars"), 2));
+            log.addRental(original, new Rental(new ChildrensMovie("Frozen"), 5));
+        }
+
+        RentalLog.open(path, IMMEDIATE, this::customerNamed).close();
+
+        assertEquals(original.generateStatement(new TextStatementFormatter()),
+                customers.get("Alice").generateStatement(new TextStatementFormatter()));
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Concurrent appends should share commits")
+    public void testConcurrentAppendsShareCommits() throws Exception {
+        ExecutorService appenders = Executors.newFixedThreadPool(8);
+        try (RentalLog log = RentalLog.open(logPath(), new GroupCommitPolicy(Duration.ofMillis(20), 1000), this::customerNamed)) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                String name = "Customer " + thread;
+                results.add(appenders.submit(() -> appendRentals(log, name, 10)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+
+            assertEquals(80, log.statistics().getEvents());
+            assertTrue(log.statistics().getCommits() < 80);
+        } finally {
+            appenders.shutdown();
+        }
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("A full batch should be committed before its commit window passes")
+    public void testFullBatchCommitsEarly() throws IOException {
+        try (RentalLog log = RentalLog.open(logPath(), new GroupCommitPolicy(Duration.ofHours(1), 1), this::customerNamed)) {
+            log.append("Alice", new Rental(new RegularMovie("Jaws"), 1));
+
+            assertEquals(1, log.statistics().getCommits());
+        }
+    }
+
+    @Test
+    @DisplayName("Reopening a log should drop a torn last event and keep appending after the intact ones")
+    public void testDropsTornTail() throws IOException {
+        Path path = logPath();
+        try (RentalLog log = RentalLog.open(path, IMMEDIATE, this::customerNamed)) {
+            log.append("Alice", new Rental(new RegularMovie("Jaws"), 1));
+        }
+        Files.write(path, new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        try (RentalLog log = RentalLog.open(path, IMMEDIATE, this::customerNamed)) {
+            log.append("Alice", new Rental(new RegularMovie("Alien"), 2));
+        }
+        customers.clear();
+        RentalLog.open(path, IMMEDIATE, this::customerNamed).close();
+
+        assertEquals(2, customers.get("Alice").getRentals().size());
+    }
+
+    @Test
+    @DisplayName("Reopening a log should drop trailing zeros left by a crash")
+    public void testDropsZeroFilledTail() throws IOException {
+        Path path = logPath();
+        try (RentalLog log = RentalLog.open(path, IMMEDIATE, this::customerNamed)) {
+            log.append("Alice", new Rental(new RegularMovie("Jaws"), 1));
+        }
+        Files.write(path, new byte[64], StandardOpenOption.APPEND);
+
+        RentalLog.open(path, IMMEDIATE, this::customerNamed).close();
+
+        assertEquals(1, customers.get("Alice").getRentals().size());
+        assertEquals(firstFrameLength(path), Files.size(path));
+    }
+
+    @Test
+    @DisplayName("Reopening a log damaged before its last frame should fail and keep the file")
+    public void testRefusesDamageBeforeLastFrame() throws IOException {
+        Path path = logPath();
+        try (RentalLog log = RentalLog.open(path, IMMEDIATE, this::customerNamed)) {
+            log.append("Alice", new Rental(new RegularMovie("Jaws"), 1));
+            log.append("Alice", new Rental(new RegularMovie("Alien"), 2));
+        }
+        byte[] contents = Files.readAllBytes(path);
+        contents[contents.length / 4] ^= 1;
+        Files.write(path, contents);
+
+        try {
+            RentalLog.open(path, IMMEDIATE, this::customerNamed);
+            fail("Expected the damaged log to be refused");
+        } catch (UncheckedIOException e) {
+            assertTrue(e.getMessage().contains("damaged at byte 0"));
+        }
+        assertEquals(contents.length, Files.size(path));
+        assertTrue(customers.isEmpty());
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("A failed commit should fail its appends and every later append")
+    public void testFailedCommitFailsLog() throws IOException {
+        Path path = logPath();
+        Files.createFile(path);
+        try (RentalLog log = RentalLog.start(FileChannel.open(path), IMMEDIATE)) {
+            assertAppendFails(log);
+            assertAppendFails(log);
+        }
+        assertEquals(0, Files.size(path));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @DisplayName("Appending to a closed log should fail")
+    public void testRejectsAppendAfterClose() throws IOException {
+        RentalLog log = RentalLog.open(logPath(), IMMEDIATE, this::customerNamed);
+        log.close();
+
+        log.append("Alice", new Rental(new RegularMovie("Jaws"), 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Commit policy should reject a non-positive batch size")
+    public void testPolicyRejectsNonPositiveBatchSize() {
+        new GroupCommitPolicy(Duration.ZERO, 0);
+    }
+
+    private void appendRentals(RentalLog log, String customerName, int count) {
+        for (int index = 0; index < count; index++) {
+            log.append(customerName, new Rental(new RegularMovie("Movie " + index), index));
+        }
+    }
+
+    private void assertAppendFails(RentalLog log) {
+        try {
+            log.append("Alice", new Rental(new RegularMovie("Jaws"), 1));
+            fail("Expected the append to fail");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().startsWith("Rental log"));
+        }
+    }
+
+    private long firstFrameLength(Path path) throws IOException {
+        return Integer.BYTES * 2 + ByteBuffer.wrap(Files.readAllBytes(path)).getInt(0);
+    }
+
+    private Customer customerNamed(String name) {
+        return customers.computeIfAbsent(name, Customer::new);
+    }
+
+    private Path logPath() throws IOException {
+        return folder.newFolder().toPath().resolve("rentals.log");
+    }
+}
@@ -0,0 +1,92 @@
+package movierental.metrics;
+
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.Assert.*;
+
+public class LogHistogramTest {
+
+    private final LogHistogram histogram = new LogHistogram();
+
+    @Test
+    @DisplayName("Values should fall into power-of-two buckets")
+    public void testBucketsArePowersOfTwo() {
+        assertEquals(0, LogHistogram.bucketOf(0));
+        assertEquals(1, LogHistogram.bucketOf(1));
+        assertEquals(2, LogHistogram.bucketOf(3));
+        assertEquals(3, LogHistogram.bucketOf(4));
+        assertEquals(63, LogHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LogHistogram.upperBoundOf(63));
+        assertEquals(7, LogHistogram.upperBoundOf(3));
+    }
+
+    @Test
+    @DisplayName("Snapshot should report count, mean and maximum exactly")
+    public void testSnapshotReportsExactSummary() {
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(-5);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(3, snapshot.getCount());
+        assertEquals(30, snapshot.getSum());
+        assertEquals(10.0, snapshot.getMean(), 0.0);
+        assertEquals(20, snapshot.getMax());
+    }
+
+    @Test
+    @DisplayName("Percentiles should be bucket upper bounds capped at the maximum")
+    public void testPercentilesAreBucketBounds() {
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(63, snapshot.percentile(0.5));
+        assertEquals(100, snapshot.percentile(0.99));
+        assertEquals(1, snapshot.percentile(0.0));
+    }
+
+    @Test
+    @DisplayName("Empty snapshot should report zeros")
+    public void testEmptySnapshot() {
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0.0, snapshot.getMean(), 0.0);
+        assertEquals(0, snapshot.percentile(0.99));
+    }
+
+    @Test
+    @DisplayName("Concurrent recording should lose no values")
+    public void testConcurrentRecording() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int index = 0; index < threads.length; index++) {
+            threads[index] = new Thread(() -> {
+                for (int value = 0; value < 10_000; value++) {
+                    histogram.record(value);
+                }
+            });
+            threads[index].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.snapshot().getCount());
+    }
+
+    @Test
+    @DisplayName("Reset should clear all counts")
+    public void testReset() {
+        histogram.record(42);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getMax());
+    }
+}
@@ -0,0 +1,115 @@
+package movierental.metrics;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.formatters.HtmlStatementFormatter;
+import movierental.formatters.JsonStatementFormatter;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.RegularMovie;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class StatementMetricsTest {
+
+    private final StatementMetrics metrics = StatementMetrics.get();
+    private final Customer customer = new Customer("Metered");
+
+    @Before
+    public void addRentals() {
+        customer.addRental(new Rental(new RegularMovie("First"), 1));
+        customer.addRental(new Rental(new RegularMovie("Second"), 3));
+        metrics.reset();
+    }
+
+    @After
+    public void disableMetrics() {
+        metrics.setEnabled(false);
+        metrics.reset();
+    }
+
+    @Test
+    @DisplayName("Disabled metrics should record nothing")
+    public void testDisabledMetricsRecordNothing() {
+        customer.generateStatement(new TextStatementFormatter());
+
+        assertEquals(0, metrics.getStatementCount());
+    }
+
+    @Test
+    @DisplayName("Enabled metrics should record statements, lines and sizes per formatter")
+    public void testRecordsPerFormatter() {
+        metrics.setEnabled(true);
+
+        String text = customer.generateStatement(new TextStatementFormatter());
+        customer.generateStatement(new TextStatementFormatter());
+        customer.generateStatement(new HtmlStatementFormatter());
+
+        FormatterSnapshot textMetrics = formatter(metrics.snapshot(), "TextStatementFormatter");
+        assertEquals(2, textMetrics.getStatementCount());
+        assertEquals(4, textMetrics.getLineCount());
+        assertEquals(text.length(), textMetrics.getSizes().getMax());
+        assertEquals(1, formatter(metrics.snapshot(), "HtmlStatementFormatter").getStatementCount());
+        assertEquals(3, metrics.getStatementCount());
+    }
+
+    @Test
+    @DisplayName("Byte output should be measured in bytes")
+    public void testMeasuresByteOutput() {
+        metrics.setEnabled(true);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.position(10);
+
+        customer.generateStatement(new JsonStatementFormatter(), buffer);
+
+        FormatterSnapshot jsonMetrics = formatter(metrics.snapshot(), "JsonStatementFormatter");
+        assertEquals(buffer.position() - 10, jsonMetrics.getSizes().getMax());
+        assertEquals(2, jsonMetrics.getLineCount());
+    }
+
+    @Test
+    @DisplayName("Text snapshot should list every formatter with its distributions")
+    public void testTextSnapshot() {
+        metrics.setEnabled(true);
+        customer.generateStatement(new TextStatementFormatter());
+
+        String text = metrics.getTextSnapshot();
+
+        assertTrue(text.startsWith("TextStatementFormatter: 1 statements, 2 lines"));
+        assertTrue(text.contains("latency ns: count=1"));
+        assertTrue(text.contains("size: count=1"));
+    }
+
+    @Test
+    @DisplayName("Metrics should be readable and switchable through JMX")
+    public void testJmxAccess() throws JMException {
+        metrics.registerMBean();
+        metrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(StatementMetrics.OBJECT_NAME);
+
+        server.setAttribute(name, new Attribute("Enabled", true));
+        customer.generateStatement(new TextStatementFormatter());
+
+        assertTrue(metrics.isEnabled());
+        assertEquals(1L, server.getAttribute(name, "StatementCount"));
+        assertEquals(2L, server.getAttribute(name, "LineCount"));
+    }
+
+    private static FormatterSnapshot formatter(MetricsSnapshot snapshot, String name) {
+        return snapshot.getFormatters().stream()
+                .filter(formatter -> formatter.getFormatterName().equals(name))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+}
@@ -135,4 +135,13 @@ public class NewReleaseMovieTest {
         // 30 days would cost $90
         assertEquals(90.0, movie.getCharge(30), 0.01);
     }
+
+    @Test
+    @DisplayName("New release should award bonus points only for rentals longer than one day")
+    public void testFrequentRenterPointsBonus() {
+        NewReleaseMovie movie = new NewReleaseMovie("Test");
+
+        assertEquals(1, movie.calculateFrequentRenterPoints(1));
+        assertEquals(2, movie.calculateFrequentRenterPoints(2));
+    }
 }
@@ -0,0 +1,114 @@
+package movierental.registry;
+
+import movierental.Customer;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class CustomerRegistryTest {
+
+    private final CustomerRegistry registry = new CustomerRegistry(8);
+
+    @Test
+    @DisplayName("Registered customer should be found by name")
+    public void testFindsRegisteredCustomer() {
+        Customer alice = new Customer("Alice");
+
+        registry.register(alice);
+
+        assertSame(alice, registry.find("Alice").get());
+        assertFalse(registry.find("Bob").isPresent());
+    }
+
+    @Test
+    @DisplayName("Registering a taken name should keep the customer registered first")
+    public void testKeepsFirstCustomerForName() {
+        Customer first = new Customer("Alice");
+        registry.register(first);
+
+        Customer registered = registry.register(new Customer("Alice"));
+
+        assertSame(first, registered);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("Get or create should create a customer once per name")
+    public void testGetOrCreateCreatesOnce() {
+        Customer created = registry.getOrCreate("Alice");
+
+        assertSame(created, registry.getOrCreate("Alice"));
+        assertEquals("Alice", created.getName());
+    }
+
+    @Test
+    @DisplayName("Bulk load should register every customer across growing shards")
+    public void testBulkLoad() {
+        registry.register(new Customer("Customer 7"));
+
+        registry.bulkLoad(customers(100_000));
+
+        assertEquals(100_000, registry.size());
+        assertEquals("Customer 99999", registry.find("Customer 99999").get().getName());
+    }
+
+    @Test
+    @DisplayName("Parallel stream of customers should visit every customer once")
+    public void testStreamsEveryCustomerOnce() {
+        registry.bulkLoad(customers(10_000));
+
+        Set<String> names = registry.customers().parallel().map(Customer::getName).collect(Collectors.toSet());
+
+        assertEquals(10_000, names.size());
+        assertEquals(10_000, registry.customers().count());
+    }
+
+    @Test(timeout = 10_000)
+    @DisplayName("Concurrent get or create should register one customer per name")
+    public void testConcurrentGetOrCreate() throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        Set<Customer> seen = ConcurrentHashMap.newKeySet();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(threads.submit(() -> {
+                    for (int index = 0; index < 5000; index++) {
+                        seen.add(registry.getOrCreate("Customer " + index));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            threads.shutdown();
+        }
+
+        assertEquals(5000, registry.size());
+        assertEquals(5000, seen.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @DisplayName("Registry should reject a non-positive shard count")
+    public void testRejectsNonPositiveShardCount() {
+        new CustomerRegistry(0);
+    }
+
+    private List<Customer> customers(int count) {
+        List<Customer> customers = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            customers.add(new Customer("Customer " + index));
+        }
+        return customers;
+    }
+}
@@ -0,0 +1,97 @@
+package movierental.server;
+
+import movierental.Customer;
+import movierental.Rental;
+import movierental.formatters.HtmlStatementFormatter;
+import movierental.formatters.TextStatementFormatter;
+import movierental.movietypes.NewReleaseMovie;
+import movierental.movietypes.RegularMovie;
+import movierental.registry.CustomerRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class StatementServerTest {
+
+    private final CustomerRegistry customers = new CustomerRegistry(4);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final Customer customer = new Customer("Jane Doe");
+    private StatementServer server;
+
+    @Before
+    public void startServer() {
+        customer.addRental(new Rental(new RegularMovie("Amélie"), 3));
+        customer.addRental(new Rental(new NewReleaseMovie("Star Wars"), 2));
+        customers.register(customer);
+        server = new StatementServer(new InetSocketAddress("localhost", 0), customers, executor);
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Service should serve a text statement by default")
+    public void testServesTextStatement() throws Exception {
+        HttpResponse<String> response = get("/statements/Jane%20Doe");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(customer.generateStatement(new TextStatementFormatter()), response.body());
+        assertEquals("text/plain; charset=utf-8", response.headers().firstValue("Content-Type").get());
+    }
+
+    @Test
+    @DisplayName("Service should serve an HTML statement when asked for")
+    public void testServesHtmlStatement() throws Exception {
+        HttpResponse<String> response = get("/statements/Jane%20Doe?format=html");
+
+        assertEquals(customer.generateStatement(new HtmlStatementFormatter()), response.body());
+        assertEquals("text/html; charset=utf-8", response.headers().firstValue("Content-Type").get());
+    }
+
+    @Test
+    @DisplayName("Service should answer not found for an unknown customer")
+    public void testUnknownCustomerIsNotFound() throws Exception {
+        assertEquals(404, get("/statements/Nobody").statusCode());
+    }
+
+    @Test
+    @DisplayName("Service should reject an unknown format")
+    public void testRejectsUnknownFormat() throws Exception {
+        assertEquals(400, get("/statements/Jane%20Doe?format=pdf").statusCode());
+    }
+
+    @Test
+    @DisplayName("Service should reject methods other than GET")
+    public void testRejectsPost() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/statements/Jane%20Doe"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        assertEquals(405, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+}